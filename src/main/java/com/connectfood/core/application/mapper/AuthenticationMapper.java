@@ -0,0 +1,53 @@
+package com.connectfood.core.application.mapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.connectfood.core.domain.enums.UsersRole;
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.model.BaseResponseOfJwtTokenResponse;
+import com.connectfood.model.JwtTokenResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthenticationMapper {
+
+  public static final String FULL_PROFILE = "full";
+  public static final String COMPACT_PROFILE = "compact";
+
+  private final boolean compact;
+
+  public AuthenticationMapper(@Value("${security.jwt.claims-profile:full}") String claimsProfile) {
+    this.compact = COMPACT_PROFILE.equalsIgnoreCase(claimsProfile);
+  }
+
+  public Map<String, Object> toClaims(Users user) {
+    final var claims = new HashMap<String, Object>();
+    if (compact) {
+      claims.put("uid", user.getUuid());
+      claims.put("r", UsersRole.toMask(user.getRoles()));
+      claims.put("tv", user.getTokenVersion());
+      return claims;
+    }
+    claims.put("fullName", user.getFullName());
+    claims.put("email", user.getEmail());
+    claims.put("uuid", user.getUuid());
+    claims.put("roles", user.getRoles());
+    claims.put("tv", user.getTokenVersion());
+    return claims;
+  }
+
+  public BaseResponseOfJwtTokenResponse toResponse(String accessToken, long expiresIn, String refreshToken) {
+    final var payload = new JwtTokenResponse()
+        .accessToken(accessToken)
+        .tokenType("Bearer")
+        .expiresIn(expiresIn)
+        .refreshToken(refreshToken);
+
+    return new BaseResponseOfJwtTokenResponse()
+        .success(true)
+        .content(payload);
+  }
+}
@@ -3,7 +3,9 @@ package com.connectfood.core.application.mapper;
 import java.time.ZoneId;
 import java.util.List;
 
+import com.connectfood.core.domain.enums.UsersRole;
 import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
 import com.connectfood.model.AddressResponse;
 import com.connectfood.model.UserCreateRequest;
 import com.connectfood.model.UserResponse;
@@ -49,7 +51,29 @@ public class UsersMapper {
     return response;
   }
 
-  public List<UserResponse> toResponses(List<Users> users) {
+  public UserResponse toResponse(UsersView user, List<AddressResponse> addressesResponse) {
+    return toResponse(user).addresses(addressesResponse);
+  }
+
+  public UserResponse toResponse(UsersView user) {
+
+    UserResponse response = new UserResponse();
+    response.setUuid(user.uuid()
+        .toString());
+    response.setFullName(user.fullName());
+    response.setEmail(user.email());
+    response.setLogin(user.login());
+    response.setRoles(user.roles());
+    response.setCreatedAt(user.createdAt()
+        .atZone(ZoneId.systemDefault())
+        .toOffsetDateTime());
+    response.setLastUpdateAt(user.updatedAt()
+        .atZone(ZoneId.systemDefault())
+        .toOffsetDateTime());
+    return response;
+  }
+
+  public List<UserResponse> toResponses(List<UsersView> users) {
     return users.stream()
         .map(this::toResponse)
         .toList();
@@ -61,23 +85,16 @@ public class UsersMapper {
         .email(request.getEmail())
         .login(request.getLogin())
         .password(request.getPassword())
-        .roles(request.getRoles())
+        .roles(request.getRoles() == null ? null : UsersRole.normalized(request.getRoles()))
         .build();
   }
 
-  public Users update(UserUpdateRequest request, Users user) {
-    if (request.getFullName() != null) {
-      user.setFullName(request.getFullName());
-    }
-    if (request.getEmail() != null) {
-      user.setEmail(request.getEmail());
-    }
-    if (request.getLogin() != null) {
-      user.setLogin(request.getLogin());
-    }
-    if (!request.getRoles().isEmpty()) {
-      user.setRoles(request.getRoles());
-    }
-    return user;
+  public Users update(UserUpdateRequest request) {
+    return Users.builder()
+        .fullName(request.getFullName())
+        .email(request.getEmail())
+        .login(request.getLogin())
+        .roles(request.getRoles().isEmpty() ? null : UsersRole.normalized(request.getRoles()))
+        .build();
   }
 }
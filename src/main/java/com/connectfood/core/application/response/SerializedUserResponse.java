@@ -0,0 +1,34 @@
+package com.connectfood.core.application.response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.connectfood.model.BaseResponseOfUserResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+public class SerializedUserResponse extends BaseResponseOfUserResponse implements JsonSerializable {
+
+  private final transient byte[] json;
+
+  public SerializedUserResponse(byte[] json) {
+    this.json = json;
+  }
+
+  public byte[] getJson() {
+    return json;
+  }
+
+  @Override
+  public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+    generator.writeRawValue(new String(json, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer)
+      throws IOException {
+    serialize(generator, serializers);
+  }
+}
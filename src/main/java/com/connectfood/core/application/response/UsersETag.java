@@ -0,0 +1,60 @@
+package com.connectfood.core.application.response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+
+import com.connectfood.core.domain.exception.PreconditionFailedException;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.commons.PageModel;
+
+public final class UsersETag {
+
+  private static final String WEAK_PREFIX = "W/";
+
+  private UsersETag() {
+  }
+
+  public static String of(UsersView user) {
+    return WEAK_PREFIX + "\"" + user.uuid() + "-" + user.version() + "\"";
+  }
+
+  public static String of(PageModel<List<UsersView>> page) {
+    try {
+      final var digest = MessageDigest.getInstance("SHA-256");
+      for (UsersView user : page.content()) {
+        digest.update((user.uuid() + "-" + user.version() + ";").getBytes(StandardCharsets.US_ASCII));
+      }
+      digest.update((page.totalElements() + ";" + page.nextCursor() + ";" + page.hasNext())
+          .getBytes(StandardCharsets.UTF_8));
+      return WEAK_PREFIX + "\"" + Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(digest.digest()) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  public static Long version(String ifMatch, String uuid) {
+    if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    var tag = ifMatch.trim();
+    if (tag.startsWith(WEAK_PREFIX)) {
+      tag = tag.substring(WEAK_PREFIX.length());
+    }
+    final var separator = tag.lastIndexOf('-');
+    if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"") || separator < 0
+        || !tag.substring(1, separator)
+        .equalsIgnoreCase(uuid)) {
+      throw new PreconditionFailedException("If-Match does not hold a tag of this user");
+    }
+    try {
+      return Long.valueOf(tag.substring(separator + 1, tag.length() - 1));
+    } catch (NumberFormatException e) {
+      throw new PreconditionFailedException("If-Match does not hold a tag of this user");
+    }
+  }
+}
@@ -1,17 +1,16 @@
 package com.connectfood.core.application.usercase.authentication;
 
-import java.util.HashMap;
-
-import com.connectfood.core.domain.exception.BadRequestException;
+import com.connectfood.core.application.mapper.AuthenticationMapper;
+import com.connectfood.core.domain.exception.ServiceUnavailableException;
+import com.connectfood.core.domain.exception.UnauthorizedException;
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.service.PasswordService;
 import com.connectfood.core.domain.service.UsersService;
-import com.connectfood.core.domain.utils.PasswordUtils;
 import com.connectfood.core.infrastructure.security.JwtService;
+import com.connectfood.core.infrastructure.security.RefreshTokenService;
 import com.connectfood.model.BaseResponseOfJwtTokenResponse;
-import com.connectfood.model.JwtTokenResponse;
 import com.connectfood.model.LoginValidationRequest;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -22,34 +21,40 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AuthenticationUseCase {
 
-  private final AuthenticationManager authenticationManager;
   private final UsersService service;
+  private final PasswordService passwordService;
   private final JwtService jwtService;
+  private final RefreshTokenService refreshTokenService;
+  private final AuthenticationMapper mapper;
 
   public BaseResponseOfJwtTokenResponse execute(LoginValidationRequest request) {
 
     final var username = request.getLogin();
     final var password = request.getPassword();
 
-    authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
     final var user = service.findByLoginOrEmail(username, username)
-        .orElseThrow(() -> new BadRequestException("Invalid credentials"));
+        .orElse(null);
 
-    final var claims = new HashMap<String, Object>();
-    claims.put("fullName", user.getFullName());
-    claims.put("email", user.getEmail());
-    claims.put("uuid", user.getUuid());
-    claims.put("roles", user.getRoles());
+    final var encodedPassword = user != null ? user.getPassword() : null;
+    if (!passwordService.matches(password, encodedPassword)) {
+      throw new UnauthorizedException("Invalid credentials");
+    }
+    upgradePassword(user, password);
 
-    final var token = jwtService.generate(user.getLogin(), claims);
+    final var accessToken = jwtService.generate(user.getLogin(), mapper.toClaims(user));
+    final var refreshToken = refreshTokenService.issue(user.getUuid(), user.getTokenVersion());
 
-    final var payload = new JwtTokenResponse()
-        .accessToken(token)
-        .tokenType("Bearer")
-        .expiresIn(jwtService.getExpiration());
+    return mapper.toResponse(accessToken, jwtService.getExpiration(), refreshToken);
+  }
 
-    return new BaseResponseOfJwtTokenResponse()
-        .success(true)
-        .content(payload);
+  private void upgradePassword(Users user, String password) {
+    if (!passwordService.upgradeEncoding(user.getPassword())) {
+      return;
+    }
+    try {
+      service.upgradePassword(user.getUuid(), user.getPassword(), password);
+    } catch (ServiceUnavailableException e) {
+      log.debug("Skipping password hash upgrade for user {}: {}", user.getUuid(), e.getMessage());
+    }
   }
 }
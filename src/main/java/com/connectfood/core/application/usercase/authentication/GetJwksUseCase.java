@@ -0,0 +1,26 @@
+package com.connectfood.core.application.usercase.authentication;
+
+import com.connectfood.core.infrastructure.security.JwtKeyRing;
+import com.connectfood.model.JwkSet;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetJwksUseCase {
+
+  private final JwtKeyRing keyRing;
+  private final JwkSet jwkSet;
+
+  public GetJwksUseCase(JwtKeyRing keyRing) {
+    this.keyRing = keyRing;
+    this.jwkSet = new JwkSet().keys(keyRing.getPublicJwks());
+  }
+
+  public JwkSet execute() {
+    return jwkSet;
+  }
+
+  public String etag() {
+    return "\"" + keyRing.getJwksEtag() + "\"";
+  }
+}
@@ -0,0 +1,39 @@
+package com.connectfood.core.application.usercase.authentication;
+
+import com.connectfood.core.application.mapper.AuthenticationMapper;
+import com.connectfood.core.domain.exception.UnauthorizedException;
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.core.infrastructure.security.JwtService;
+import com.connectfood.core.infrastructure.security.RefreshTokenService;
+import com.connectfood.model.BaseResponseOfJwtTokenResponse;
+import com.connectfood.model.RefreshTokenRequest;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenUseCase {
+
+  private final UsersService service;
+  private final JwtService jwtService;
+  private final RefreshTokenService refreshTokenService;
+  private final AuthenticationMapper mapper;
+
+  public BaseResponseOfJwtTokenResponse execute(RefreshTokenRequest request) {
+    final var grant = refreshTokenService.consume(request.getRefreshToken())
+        .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+    // Password and role changes bump the token version, which retires refresh tokens issued before them.
+    final var user = service.findByUuid(grant.userUuid())
+        .filter(found -> grant.tokenVersion()
+            .equals(found.getTokenVersion()))
+        .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+    final var accessToken = jwtService.generate(user.getLogin(), mapper.toClaims(user));
+    final var refreshToken = refreshTokenService.issue(user.getUuid(), user.getTokenVersion());
+
+    return mapper.toResponse(accessToken, jwtService.getExpiration(), refreshToken);
+  }
+}
@@ -0,0 +1,31 @@
+package com.connectfood.core.application.usercase.authentication;
+
+import com.connectfood.core.infrastructure.security.JwtService;
+import com.connectfood.core.infrastructure.security.RefreshTokenService;
+import com.connectfood.core.infrastructure.security.RevokedTokenRegistry;
+import com.connectfood.model.RevokeTokenRequest;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RevokeTokenUseCase {
+
+  private final JwtService jwtService;
+  private final RefreshTokenService refreshTokenService;
+  private final RevokedTokenRegistry revokedTokens;
+
+  public void execute(RevokeTokenRequest request) {
+    final var token = request.getToken();
+    if (refreshTokenService.revoke(token)) {
+      return;
+    }
+
+    jwtService.verify(token)
+        .filter(claims -> claims.getId() != null && claims.getExpiration() != null)
+        .ifPresent(claims -> revokedTokens.revoke(claims.getId(), claims.getExpiration()
+            .toInstant()));
+  }
+}
@@ -0,0 +1,49 @@
+package com.connectfood.core.application.usercase.users;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.model.BaseResponseOfUsersBatchDeleteResponse;
+import com.connectfood.model.UsersBatchDeleteRequest;
+import com.connectfood.model.UsersBatchDeleteResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BatchDeleteUsersUseCase {
+
+  private final UsersService service;
+  private final int chunkSize;
+
+  public BatchDeleteUsersUseCase(
+      UsersService service,
+      @Value("${users.delete.chunk-size:500}") int chunkSize
+  ) {
+    this.service = service;
+    this.chunkSize = chunkSize;
+  }
+
+  public BaseResponseOfUsersBatchDeleteResponse execute(UsersBatchDeleteRequest request) {
+    final var uuids = request.getUuids()
+        .stream()
+        .map(UUID::toString)
+        .distinct()
+        .toList();
+
+    final var deleted = new HashSet<String>();
+    for (int start = 0; start < uuids.size(); start += chunkSize) {
+      deleted.addAll(service.deleteAllByUuid(uuids.subList(start, Math.min(start + chunkSize, uuids.size()))));
+    }
+
+    final var response = new UsersBatchDeleteResponse()
+        .deleted(uuids.stream()
+            .filter(deleted::contains)
+            .toList())
+        .notFound(uuids.stream()
+            .filter(uuid -> !deleted.contains(uuid))
+            .toList());
+    return new BaseResponseOfUsersBatchDeleteResponse().content(response);
+  }
+}
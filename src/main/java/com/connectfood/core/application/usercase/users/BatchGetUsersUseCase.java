@@ -0,0 +1,46 @@
+package com.connectfood.core.application.usercase.users;
+
+import java.util.LinkedHashSet;
+import java.util.UUID;
+
+import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.model.BaseResponseOfUsersBatchGetResponse;
+import com.connectfood.model.UsersBatchGetRequest;
+import com.connectfood.model.UsersBatchGetResponse;
+import com.connectfood.model.UsersBatchGetResult;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BatchGetUsersUseCase {
+
+  private final UsersService service;
+  private final UsersMapper mapper;
+
+  public BaseResponseOfUsersBatchGetResponse execute(UsersBatchGetRequest request) {
+    final var uuids = request.getUuids()
+        .stream()
+        .map(UUID::toString)
+        .toList();
+    final var users = service.findViewsByUuid(new LinkedHashSet<>(uuids));
+
+    final var response = new UsersBatchGetResponse().results(uuids.stream()
+        .map(uuid -> result(uuid, users.get(uuid)))
+        .toList());
+    return new BaseResponseOfUsersBatchGetResponse().content(response);
+  }
+
+  private UsersBatchGetResult result(String uuid, UsersView user) {
+    final var result = new UsersBatchGetResult().uuid(uuid);
+    if (user == null) {
+      return result.status(UsersBatchGetResult.StatusEnum.NOT_FOUND);
+    }
+    return result.status(UsersBatchGetResult.StatusEnum.FOUND)
+        .user(mapper.toResponse(user));
+  }
+}
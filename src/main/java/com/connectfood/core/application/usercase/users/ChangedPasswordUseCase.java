@@ -1,9 +1,12 @@
 package com.connectfood.core.application.usercase.users;
 
+import com.connectfood.core.application.response.UsersETag;
 import com.connectfood.core.domain.exception.NotFoundException;
+import com.connectfood.core.domain.exception.PreconditionFailedException;
 import com.connectfood.core.domain.exception.UnauthorizedException;
+import com.connectfood.core.domain.exception.VersionConflictException;
+import com.connectfood.core.domain.service.PasswordService;
 import com.connectfood.core.domain.service.UsersService;
-import com.connectfood.core.domain.utils.PasswordUtils;
 import com.connectfood.model.ChangePasswordRequest;
 
 import org.springframework.stereotype.Component;
@@ -15,19 +18,31 @@ import lombok.RequiredArgsConstructor;
 public class ChangedPasswordUseCase {
 
   private final UsersService service;
+  private final PasswordService passwordService;
 
-  public void execute(String uuid, ChangePasswordRequest request) {
+  public void execute(String uuid, String ifMatch, ChangePasswordRequest request) {
+    final var expected = UsersETag.version(ifMatch, uuid);
     final var user = service.findByUuid(uuid)
         .orElseThrow(() -> new NotFoundException("User not found"));
 
-    final var validPassword = PasswordUtils.matches(request.getCurrentPassword(), user.getPassword());
+    if (expected != null && !expected.equals(user.getVersion())) {
+      throw new PreconditionFailedException("User was changed by another request, reload and try again");
+    }
+
+    final var validPassword = passwordService.matches(request.getCurrentPassword(), user.getPassword());
 
     if (!validPassword) {
       throw new UnauthorizedException("Invalid credentials");
     }
 
-    final var password = PasswordUtils.encode(request.getNewPassword());
-    user.setPassword(password);
-    service.changedPassword(uuid, user);
+    final var password = passwordService.encode(request.getNewPassword());
+    try {
+      service.changedPassword(uuid, user.getVersion(), password);
+    } catch (VersionConflictException e) {
+      if (expected != null) {
+        throw new PreconditionFailedException(e.getMessage());
+      }
+      throw e;
+    }
   }
 }
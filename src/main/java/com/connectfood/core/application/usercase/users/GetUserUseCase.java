@@ -1,26 +1,96 @@
 package com.connectfood.core.application.usercase.users;
 
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.application.mapper.AddressMapper;
 import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.application.response.SerializedUserResponse;
+import com.connectfood.core.application.response.UsersETag;
 import com.connectfood.core.domain.exception.NotFoundException;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.service.AddressService;
 import com.connectfood.core.domain.service.UsersService;
 import com.connectfood.model.BaseResponseOfUserResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
-@RequiredArgsConstructor
 public class GetUserUseCase {
 
   private final UsersService service;
   private final UsersMapper mapper;
+  private final AddressService addressService;
+  private final AddressMapper addressMapper;
+  private final ObjectMapper objectMapper;
+  private final Cache<Key, SerializedUserResponse> responses;
 
-  public BaseResponseOfUserResponse execute(String uuid) {
-    final var user = service.findByUuid(uuid);
+  public GetUserUseCase(
+      UsersService service,
+      UsersMapper mapper,
+      AddressService addressService,
+      AddressMapper addressMapper,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${users.response-cache.enabled:true}") boolean responseCacheEnabled,
+      @Value("${users.response-cache.max-size:10000}") long responseCacheMaxSize
+  ) {
+    this.service = service;
+    this.mapper = mapper;
+    this.addressService = addressService;
+    this.addressMapper = addressMapper;
+    this.objectMapper = objectMapper;
+    this.responses = responseCacheEnabled ? Caffeine.newBuilder()
+        .maximumSize(responseCacheMaxSize)
+        .recordStats()
+        .build() : null;
+    if (responses != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, responses, "users.response");
+    }
+  }
 
-    final var response = user.map(mapper::toResponse)
+  public UsersView find(String uuid) {
+    return service.findViewByUuid(uuid)
         .orElseThrow(() -> new NotFoundException("User not found"));
-    return new BaseResponseOfUserResponse().content(response);
+  }
+
+  public BaseResponseOfUserResponse execute(String uuid) {
+    return execute(find(uuid), false);
+  }
+
+  public BaseResponseOfUserResponse execute(UsersView user, boolean embedAddresses) {
+    if (!embedAddresses) {
+      return responses == null
+          ? new BaseResponseOfUserResponse().content(mapper.toResponse(user))
+          : responses.get(new Key(user.uuid(), user.version()), key -> serialized(user));
+    }
+    final var addresses = addressService.findAllByUserIds(List.of(user.id()))
+        .getOrDefault(user.id(), List.of());
+    return new BaseResponseOfUserResponse().content(mapper.toResponse(user, addressMapper.toResponses(addresses)));
+  }
+
+  public String etag(UsersView user) {
+    return UsersETag.of(user);
+  }
+
+  private SerializedUserResponse serialized(UsersView user) {
+    try {
+      return new SerializedUserResponse(objectMapper.writeValueAsBytes(new BaseResponseOfUserResponse()
+          .content(mapper.toResponse(user))));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record Key(UUID uuid, Long version) {
   }
 }
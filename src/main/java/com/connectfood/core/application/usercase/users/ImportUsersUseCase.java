@@ -0,0 +1,354 @@
+package com.connectfood.core.application.usercase.users;
+
+import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.connectfood.core.application.mapper.AddressMapper;
+import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.domain.enums.UsersRole;
+import com.connectfood.core.domain.exception.BadRequestException;
+import com.connectfood.core.domain.exception.ServiceUnavailableException;
+import com.connectfood.core.domain.model.UsersWithAddresses;
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.model.AddressCreateRequest;
+import com.connectfood.model.UserCreateRequest;
+import com.connectfood.model.UserImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Component
+public class ImportUsersUseCase {
+
+  private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+  private static final CsvMapper CSV_MAPPER = new CsvMapper();
+  private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema()
+      .withHeader();
+
+  private final UsersService service;
+  private final UsersMapper mapper;
+  private final AddressMapper addressMapper;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final int chunkSize;
+
+  public ImportUsersUseCase(
+      UsersService service,
+      UsersMapper mapper,
+      AddressMapper addressMapper,
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${users.import.chunk-size:500}") int chunkSize
+  ) {
+    this.service = service;
+    this.mapper = mapper;
+    this.addressMapper = addressMapper;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+  }
+
+  public record Report(Resource content, long created, long rejected, Long stoppedAtLine) {
+  }
+
+  public Report execute(Resource file, MediaType contentType) {
+    final Path reportFile;
+    try {
+      reportFile = Files.createTempFile("users-import-", ".ndjson");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    try (var input = file.getInputStream();
+        var output = new BufferedOutputStream(Files.newOutputStream(reportFile))) {
+      final var chunk = new Chunk(output);
+      if (TEXT_CSV.isCompatibleWith(contentType)) {
+        readCsv(input, chunk);
+      } else {
+        readNdjson(input, chunk);
+      }
+      chunk.flush();
+
+      final var content = new InputStreamResource(
+          Files.newInputStream(reportFile, StandardOpenOption.DELETE_ON_CLOSE));
+      return new Report(content, chunk.created, chunk.rejected, chunk.stoppedAtLine);
+    } catch (IOException e) {
+      deleteQuietly(reportFile);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteQuietly(reportFile);
+      throw e;
+    }
+  }
+
+  private void readNdjson(InputStream input, Chunk chunk) throws IOException {
+    final var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    var number = 0L;
+    String line;
+    while (chunk.stoppedAtLine == null && (line = reader.readLine()) != null) {
+      number++;
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        chunk.add(validated(number, objectMapper.readValue(line, UserCreateRequest.class)));
+      } catch (JsonProcessingException e) {
+        chunk.add(new Row(number, null, new ArrayList<>(List.of("Malformed JSON line"))));
+      }
+    }
+  }
+
+  private void readCsv(InputStream input, Chunk chunk) throws IOException {
+    final MappingIterator<Map<String, String>> rows = CSV_MAPPER.readerForMapOf(String.class)
+        .with(CSV_SCHEMA)
+        .readValues(input);
+    var number = 0L;
+    while (chunk.stoppedAtLine == null) {
+      try {
+        if (!rows.hasNextValue()) {
+          return;
+        }
+        number++;
+        chunk.add(validated(number, fromCsv(rows.nextValue())));
+      } catch (IOException | RuntimeJsonMappingException e) {
+        chunk.add(new Row(number, null,
+            new ArrayList<>(List.of("Malformed CSV row; the rest of the file was not imported"))));
+        return;
+      }
+    }
+  }
+
+  private static UserCreateRequest fromCsv(Map<String, String> row) {
+    final var address = new AddressCreateRequest()
+        .street(column(row, "street"))
+        .number(column(row, "number"))
+        .complement(column(row, "complement"))
+        .neighborhood(column(row, "neighborhood"))
+        .city(column(row, "city"))
+        .state(column(row, "state"))
+        .zipCode(column(row, "zipCode"))
+        .country(column(row, "country"))
+        .addressType(column(row, "addressType"))
+        .isDefault(true);
+
+    final var roles = column(row, "roles");
+    return new UserCreateRequest()
+        .fullName(column(row, "fullName"))
+        .email(column(row, "email"))
+        .login(column(row, "login"))
+        .password(column(row, "password"))
+        .roles(roles == null ? null : Arrays.stream(roles.split("\\|"))
+            .map(String::trim)
+            .toList())
+        .addresses(List.of(address));
+  }
+
+  private static String column(Map<String, String> row, String name) {
+    final var value = row.get(name);
+    return value == null || value.isBlank() ? null : value.trim();
+  }
+
+  private Row validated(long number, UserCreateRequest request) {
+    final var errors = new ArrayList<>(validator.validate(request)
+        .stream()
+        .map(ImportUsersUseCase::message)
+        .sorted()
+        .toList());
+
+    if (request.getRoles() != null) {
+      for (String role : request.getRoles()) {
+        try {
+          UsersRole.validatedUserRole(role);
+        } catch (BadRequestException e) {
+          errors.add(e.getMessage() + ": " + role);
+        }
+      }
+    }
+
+    if (request.getAddresses() != null && request.getAddresses()
+        .stream()
+        .filter(address -> Boolean.TRUE.equals(address.getIsDefault()))
+        .count() > 1) {
+      errors.add("Only one address can be the default");
+    }
+    return new Row(number, request, errors);
+  }
+
+  private static String message(ConstraintViolation<UserCreateRequest> violation) {
+    return violation.getPropertyPath() + ": " + violation.getMessage();
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ignored) {
+      // a leftover temporary file is harmless
+    }
+  }
+
+  private static String key(String value) {
+    return value.toLowerCase(Locale.ROOT);
+  }
+
+  private record Row(long number, UserCreateRequest request, List<String> errors) {
+  }
+
+  private final class Chunk {
+
+    private final OutputStream output;
+    private final List<Row> rows = new ArrayList<>(chunkSize);
+    private long created;
+    private long rejected;
+    private Long stoppedAtLine;
+
+    private Chunk(OutputStream output) {
+      this.output = output;
+    }
+
+    private void add(Row row) throws IOException {
+      rows.add(row);
+      if (rows.size() >= chunkSize) {
+        flush();
+      }
+    }
+
+    private void flush() throws IOException {
+      final var candidates = uniqueAndUnregistered();
+      Map<String, String> uuids;
+      try {
+        uuids = create(candidates);
+      } catch (ServiceUnavailableException e) {
+        uuids = Map.of();
+        stoppedAtLine = rows.get(0)
+            .number();
+        for (Row row : candidates) {
+          row.errors()
+              .add("Import stopped: password hashing is saturated; resubmit from line " + stoppedAtLine);
+        }
+      }
+
+      for (Row row : rows) {
+        final var email = row.request() == null ? null : row.request()
+            .getEmail();
+        final var result = new UserImportResult()
+            .line(row.number())
+            .email(email);
+
+        final var uuid = row.errors()
+            .isEmpty() ? uuids.get(key(email)) : null;
+        if (uuid != null) {
+          result.status(UserImportResult.StatusEnum.CREATED)
+              .uuid(uuid);
+          created++;
+        } else {
+          if (row.errors()
+              .isEmpty()) {
+            row.errors()
+                .add("Email or login already registered in the system");
+          }
+          result.status(UserImportResult.StatusEnum.REJECTED)
+              .errors(row.errors());
+          rejected++;
+        }
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+      }
+      rows.clear();
+    }
+
+    private List<Row> uniqueAndUnregistered() {
+      final var emails = new HashSet<String>();
+      final var logins = new HashSet<String>();
+      final var candidates = new ArrayList<Row>();
+      for (Row row : rows) {
+        if (!row.errors()
+            .isEmpty()) {
+          continue;
+        }
+        final var emailSeen = !emails.add(key(row.request()
+            .getEmail()));
+        final var loginSeen = !logins.add(key(row.request()
+            .getLogin()));
+        if (emailSeen) {
+          row.errors()
+              .add("Email repeated in the file");
+        }
+        if (loginSeen) {
+          row.errors()
+              .add("Login repeated in the file");
+        }
+        if (!emailSeen && !loginSeen) {
+          candidates.add(row);
+        }
+      }
+
+      final var registeredEmails = service.findRegisteredEmails(emails);
+      final var registeredLogins = service.findRegisteredLogins(logins);
+      for (Row row : candidates) {
+        if (registeredEmails.contains(key(row.request()
+            .getEmail()))) {
+          row.errors()
+              .add("Email already registered in the system");
+        }
+        if (registeredLogins.contains(key(row.request()
+            .getLogin()))) {
+          row.errors()
+              .add("Login already registered in the system");
+        }
+      }
+      return candidates.stream()
+          .filter(row -> row.errors()
+              .isEmpty())
+          .toList();
+    }
+
+    private Map<String, String> create(List<Row> candidates) {
+      final var users = candidates.stream()
+          .map(row -> new UsersWithAddresses(mapper.create(row.request()), row.request()
+              .getAddresses()
+              .stream()
+              .map(addressMapper::create)
+              .toList()))
+          .toList();
+
+      final var uuids = new HashMap<String, String>();
+      if (users.isEmpty()) {
+        return uuids;
+      }
+      for (UsersWithAddresses user : service.createdAll(users)) {
+        uuids.put(key(user.user()
+            .getEmail()), user.user()
+            .getUuid());
+      }
+      return uuids;
+    }
+  }
+}
@@ -1,8 +1,17 @@
 package com.connectfood.core.application.usercase.users;
 
+import java.util.List;
+import java.util.Locale;
+
+import com.connectfood.core.application.mapper.AddressMapper;
 import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.application.response.UsersETag;
+import com.connectfood.core.domain.enums.CountMode;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.service.AddressService;
 import com.connectfood.core.domain.service.UsersService;
 import com.connectfood.model.PageResponseOfUserResponse;
+import com.connectfood.model.UserResponse;
 
 import org.springframework.stereotype.Component;
 
@@ -14,15 +23,43 @@ public class ListUsersUseCase {
 
   private final UsersService service;
   private final UsersMapper mapper;
+  private final AddressService addressService;
+  private final AddressMapper addressMapper;
+
+  public record Result(PageResponseOfUserResponse response, String etag) {
+  }
 
-  public PageResponseOfUserResponse execute(String name, Integer page, Integer size) {
-    final var users = service.findAll(name, page, size);
+  public Result execute(String name, Integer page, Integer size, String cursor, String count,
+      boolean embedAddresses) {
+    final var byCursor = cursor != null;
+    final var countMode = count != null ? CountMode.from(count) : byCursor ? CountMode.NONE : CountMode.EXACT;
+    final var users = byCursor
+        ? service.findAllAfter(name, cursor, size, countMode)
+        : service.findAll(name, page, size, countMode);
 
-    final var response = mapper.toResponses(users.content());
+    final var response = embedAddresses
+        ? withAddresses(users.content())
+        : mapper.toResponses(users.content());
 
-    return new PageResponseOfUserResponse().content(response)
+    final var body = new PageResponseOfUserResponse().content(response)
         .totalElements(users.totalElements())
-        .page(page)
-        .size(size);
+        .page(byCursor ? null : page)
+        .size(size)
+        .nextCursor(users.nextCursor())
+        .countMode(PageResponseOfUserResponse.CountModeEnum.fromValue(users.countMode()
+            .name()
+            .toLowerCase(Locale.ROOT)))
+        .hasNext(users.hasNext());
+    return new Result(body, embedAddresses ? null : UsersETag.of(users));
+  }
+
+  private List<UserResponse> withAddresses(List<UsersView> users) {
+    final var addresses = addressService.findAllByUserIds(users.stream()
+        .map(UsersView::id)
+        .toList());
+
+    return users.stream()
+        .map(user -> mapper.toResponse(user, addressMapper.toResponses(addresses.getOrDefault(user.id(), List.of()))))
+        .toList();
   }
 }
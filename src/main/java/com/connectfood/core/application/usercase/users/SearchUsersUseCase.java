@@ -0,0 +1,39 @@
+package com.connectfood.core.application.usercase.users;
+
+import java.util.Locale;
+
+import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.domain.exception.BadRequestException;
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.model.PageResponseOfUserResponse;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SearchUsersUseCase {
+
+  private final UsersService service;
+  private final UsersMapper mapper;
+
+  public PageResponseOfUserResponse execute(String query, Integer page, Integer size) {
+    if (query == null || query.isBlank()) {
+      throw new BadRequestException("Search query must not be blank");
+    }
+
+    final var users = service.search(query.trim(), page, size);
+
+    final var response = mapper.toResponses(users.content());
+
+    return new PageResponseOfUserResponse().content(response)
+        .totalElements(users.totalElements())
+        .page(page)
+        .size(size)
+        .countMode(PageResponseOfUserResponse.CountModeEnum.fromValue(users.countMode()
+            .name()
+            .toLowerCase(Locale.ROOT)))
+        .hasNext(users.hasNext());
+  }
+}
@@ -3,8 +3,11 @@ package com.connectfood.core.application.usercase.users;
 import java.util.List;
 
 import com.connectfood.core.application.mapper.UsersMapper;
+import com.connectfood.core.application.response.UsersETag;
 import com.connectfood.core.domain.enums.UsersRole;
-import com.connectfood.core.domain.exception.NotFoundException;
+import com.connectfood.core.domain.exception.PreconditionFailedException;
+import com.connectfood.core.domain.exception.VersionConflictException;
+import com.connectfood.core.domain.model.Users;
 import com.connectfood.core.domain.service.UsersService;
 import com.connectfood.model.BaseResponseOfUserResponse;
 import com.connectfood.model.UserUpdateRequest;
@@ -20,28 +23,21 @@ public class UpdateUserUseCase {
   private final UsersService service;
   private final UsersMapper mapper;
 
-  public BaseResponseOfUserResponse execute(String uuid, UserUpdateRequest request) {
-    final var user = service.findByUuid(uuid)
-        .orElseThrow(() -> new NotFoundException("User not found"));
-
+  public BaseResponseOfUserResponse execute(String uuid, String ifMatch, UserUpdateRequest request) {
     validatedUsersRole(request.getRoles());
-    validatedEmail(request.getEmail(), user.getEmail());
+    final var version = UsersETag.version(ifMatch, uuid);
 
-    final var userUpdate = mapper.update(request, user);
-    final var result = service.updated(uuid, userUpdate);
+    final Users result;
+    try {
+      result = service.updated(uuid, version, mapper.update(request));
+    } catch (VersionConflictException e) {
+      throw new PreconditionFailedException(e.getMessage());
+    }
 
     final var response = mapper.toResponse(result);
     return new BaseResponseOfUserResponse().content(response);
   }
 
-  private void validatedEmail(String newEmail, String currentEmail) {
-    if (newEmail != null) {
-      if (!newEmail.equals(currentEmail)) {
-        service.validatedEmail(newEmail);
-      }
-    }
-  }
-
   private void validatedUsersRole(List<String> roles) {
     if (!roles.isEmpty()) {
       roles.forEach(UsersRole::validatedUserRole);
@@ -0,0 +1,20 @@
+package com.connectfood.core.domain.enums;
+
+import java.util.Arrays;
+
+import com.connectfood.core.domain.exception.BadRequestException;
+
+public enum CountMode {
+
+  EXACT,
+  ESTIMATE,
+  NONE;
+
+  public static CountMode from(String value) {
+    return Arrays.stream(values())
+        .filter(mode -> mode.name()
+            .equalsIgnoreCase(value))
+        .findFirst()
+        .orElseThrow(() -> new BadRequestException("Invalid count mode"));
+  }
+}
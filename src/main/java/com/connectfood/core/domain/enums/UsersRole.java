@@ -1,14 +1,56 @@
 package com.connectfood.core.domain.enums;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 import com.connectfood.core.domain.exception.BadRequestException;
 
 public enum UsersRole {
 
+  // Compact tokens encode roles as a bitmask over the ordinal, so new roles go at the end.
   CUSTOMER,
   OWNER;
 
+  public int mask() {
+    return 1 << ordinal();
+  }
+
+  public static int toMask(Collection<String> roles) {
+    var mask = 0;
+    for (String value : roles) {
+      for (UsersRole role : values()) {
+        if (role.name()
+            .equalsIgnoreCase(value)) {
+          mask |= role.mask();
+        }
+      }
+    }
+    return mask;
+  }
+
+  public static List<String> fromMask(int mask) {
+    final var roles = new ArrayList<String>();
+    for (UsersRole role : values()) {
+      if ((mask & role.mask()) != 0) {
+        roles.add(role.name());
+      }
+    }
+    return roles;
+  }
+
+  public static List<String> normalized(Collection<String> roles) {
+    return roles.stream()
+        .map(value -> Arrays.stream(values())
+            .map(UsersRole::name)
+            .filter(name -> name.equalsIgnoreCase(value))
+            .findFirst()
+            .orElse(value))
+        .distinct()
+        .toList();
+  }
+
   public static void validatedUserRole(String value) {
     Arrays.stream(values())
         .filter(role -> role.name()
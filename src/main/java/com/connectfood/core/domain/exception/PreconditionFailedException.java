@@ -0,0 +1,7 @@
+package com.connectfood.core.domain.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+  public PreconditionFailedException(String message) {
+    super(message);
+  }
+}
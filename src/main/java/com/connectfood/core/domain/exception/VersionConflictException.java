@@ -0,0 +1,7 @@
+package com.connectfood.core.domain.exception;
+
+public class VersionConflictException extends ConflictException {
+  public VersionConflictException(String message) {
+    super(message);
+  }
+}
@@ -22,4 +22,5 @@ public class Users extends BaseModel {
   private String login;
   private String password;
   private List<String> roles;
+  private Long tokenVersion;
 }
@@ -0,0 +1,22 @@
+package com.connectfood.core.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record UsersView(
+    Long id,
+    UUID uuid,
+    String fullName,
+    String email,
+    String login,
+    List<String> roles,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version
+) {
+
+  public UsersView {
+    roles = roles == null ? List.of() : List.copyOf(roles);
+  }
+}
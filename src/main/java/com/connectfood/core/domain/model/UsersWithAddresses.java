@@ -0,0 +1,6 @@
+package com.connectfood.core.domain.model;
+
+import java.util.List;
+
+public record UsersWithAddresses(Users user, List<Address> addresses) {
+}
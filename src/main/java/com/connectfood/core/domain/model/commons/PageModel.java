@@ -1,4 +1,6 @@
 package com.connectfood.core.domain.model.commons;
 
-public record PageModel<T>(T content, long totalElements) {
+import com.connectfood.core.domain.enums.CountMode;
+
+public record PageModel<T>(T content, Long totalElements, String nextCursor, CountMode countMode, boolean hasNext) {
 }
@@ -1,14 +1,13 @@
 package com.connectfood.core.domain.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.connectfood.core.domain.model.Address;
-import com.connectfood.core.domain.model.Users;
 
 public interface AddressService {
   List<Address> findAllByUserUuid(String uuid);
 
-  Address save(Address address, String userUuid);
-
-  void deleteByUserUuid(String userUuid);
+  Map<Long, List<Address>> findAllByUserIds(Collection<Long> userIds);
 }
@@ -0,0 +1,14 @@
+package com.connectfood.core.domain.service;
+
+import java.util.List;
+
+public interface PasswordService {
+
+  String encode(String password);
+
+  List<String> encodeAll(List<String> passwords);
+
+  boolean matches(String password, String encodedPassword);
+
+  boolean upgradeEncoding(String encodedPassword);
+}
@@ -1,25 +1,47 @@
 package com.connectfood.core.domain.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import com.connectfood.core.domain.enums.CountMode;
 import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.UsersWithAddresses;
 import com.connectfood.core.domain.model.commons.PageModel;
 
 public interface UsersService {
-  PageModel<List<Users>> findAll(String name, Integer page, Integer size);
+  PageModel<List<UsersView>> findAll(String name, Integer page, Integer size, CountMode countMode);
+
+  PageModel<List<UsersView>> findAllAfter(String name, String cursor, Integer size, CountMode countMode);
+
+  PageModel<List<UsersView>> search(String query, Integer page, Integer size);
 
   Optional<Users> findByUuid(String uuid);
 
-  Users created(Users user);
+  Optional<UsersView> findViewByUuid(String uuid);
+
+  Map<String, UsersView> findViewsByUuid(Collection<String> uuids);
+
+  UsersWithAddresses created(UsersWithAddresses user);
 
-  Users updated(String uuid, Users user);
+  List<UsersWithAddresses> createdAll(List<UsersWithAddresses> users);
 
-  void changedPassword(String uuid, Users user);
+  Users updated(String uuid, Long version, Users changes);
 
-  void deleteByUuid(String uuid);
+  void changedPassword(String uuid, Long version, String password);
+
+  void upgradePassword(String uuid, String currentPassword, String password);
+
+  boolean deleteByUuid(String uuid);
+
+  List<String> deleteAllByUuid(Collection<String> uuids);
 
   Optional<Users> findByLoginOrEmail(String login, String email);
 
-  void validatedEmail(String email);
+  Set<String> findRegisteredEmails(Collection<String> emails);
+
+  Set<String> findRegisteredLogins(Collection<String> logins);
 }
@@ -1,9 +1,10 @@
 package com.connectfood.core.domain.service.adapter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.connectfood.core.domain.model.Address;
-import com.connectfood.core.domain.model.Users;
 import com.connectfood.core.domain.repository.AddressRepository;
 import com.connectfood.core.domain.service.AddressService;
 
@@ -23,12 +24,7 @@ public class AddressServiceImpl implements AddressService {
   }
 
   @Override
-  public Address save(Address address, String userUuid) {
-    return repository.save(address, userUuid);
-  }
-
-  @Override
-  public void deleteByUserUuid(String userUuid) {
-    repository.deleteByUserUuid(userUuid);
+  public Map<Long, List<Address>> findAllByUserIds(Collection<Long> userIds) {
+    return repository.findAllByUserIds(userIds);
   }
 }
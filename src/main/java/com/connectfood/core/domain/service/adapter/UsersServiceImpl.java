@@ -1,14 +1,20 @@
 package com.connectfood.core.domain.service.adapter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.connectfood.core.domain.exception.ConflictException;
+import com.connectfood.core.domain.enums.CountMode;
 import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.UsersWithAddresses;
 import com.connectfood.core.domain.model.commons.PageModel;
 import com.connectfood.core.domain.repository.UsersRepository;
+import com.connectfood.core.domain.service.PasswordService;
 import com.connectfood.core.domain.service.UsersService;
-import com.connectfood.core.domain.utils.PasswordUtils;
 import com.connectfood.model.UserRole;
 
 import org.springframework.stereotype.Service;
@@ -20,10 +26,21 @@ import lombok.AllArgsConstructor;
 public class UsersServiceImpl implements UsersService {
 
   private final UsersRepository repository;
+  private final PasswordService passwordService;
 
   @Override
-  public PageModel<List<Users>> findAll(String name, Integer page, Integer size) {
-    return repository.findAll(name, page, size);
+  public PageModel<List<UsersView>> findAll(String name, Integer page, Integer size, CountMode countMode) {
+    return repository.findAll(name, page, size, countMode);
+  }
+
+  @Override
+  public PageModel<List<UsersView>> findAllAfter(String name, String cursor, Integer size, CountMode countMode) {
+    return repository.findAllAfter(name, cursor, size, countMode);
+  }
+
+  @Override
+  public PageModel<List<UsersView>> search(String query, Integer page, Integer size) {
+    return repository.search(query, page, size);
   }
 
   @Override
@@ -32,27 +49,64 @@ public class UsersServiceImpl implements UsersService {
   }
 
   @Override
-  public Users created(Users user) {
-    validatedEmail(user.getEmail());
+  public Optional<UsersView> findViewByUuid(String uuid) {
+    return repository.findViewByUuid(uuid);
+  }
+
+  @Override
+  public Map<String, UsersView> findViewsByUuid(Collection<String> uuids) {
+    return repository.findViewsByUuid(uuids);
+  }
 
-    final var password = PasswordUtils.encode(user.getPassword());
-    user.setPassword(password);
-    return repository.save(user);
+  @Override
+  public UsersWithAddresses created(UsersWithAddresses user) {
+    final var password = passwordService.encode(user.user()
+        .getPassword());
+    user.user()
+        .setPassword(password);
+    return repository.saveAll(List.of(user))
+        .stream()
+        .findFirst()
+        .orElseThrow(() -> conflict(user.user()));
   }
 
   @Override
-  public Users updated(String uuid, Users user) {
-    return repository.save(uuid, user);
+  public List<UsersWithAddresses> createdAll(List<UsersWithAddresses> users) {
+    final var passwords = passwordService.encodeAll(users.stream()
+        .map(user -> user.user()
+            .getPassword())
+        .toList());
+    for (int i = 0; i < users.size(); i++) {
+      users.get(i)
+          .user()
+          .setPassword(passwords.get(i));
+    }
+    return repository.saveAll(users);
   }
 
   @Override
-  public void changedPassword(String uuid, Users user) {
-    repository.changedPassword(uuid, user);
+  public Users updated(String uuid, Long version, Users changes) {
+    return repository.update(uuid, version, changes);
   }
 
   @Override
-  public void deleteByUuid(String uuid) {
-    repository.deleteByUuid(uuid);
+  public void changedPassword(String uuid, Long version, String password) {
+    repository.changedPassword(uuid, version, password);
+  }
+
+  @Override
+  public void upgradePassword(String uuid, String currentPassword, String password) {
+    repository.upgradePassword(uuid, currentPassword, passwordService.encode(password));
+  }
+
+  @Override
+  public boolean deleteByUuid(String uuid) {
+    return repository.deleteByUuid(uuid);
+  }
+
+  @Override
+  public List<String> deleteAllByUuid(Collection<String> uuids) {
+    return repository.deleteAllByUuid(uuids);
   }
 
   @Override
@@ -60,11 +114,21 @@ public class UsersServiceImpl implements UsersService {
     return repository.findByLoginOrEmail(login, email);
   }
 
+  private ConflictException conflict(Users user) {
+    final var emailTaken = !repository.findRegisteredEmails(List.of(user.getEmail()))
+        .isEmpty();
+    return new ConflictException(emailTaken
+        ? "Email already registered in the system"
+        : "Login already registered in the system");
+  }
+
   @Override
-  public void validatedEmail(String email) {
-    final var existsEmail = repository.existsByEmail(email);
-    if (existsEmail) {
-      throw new ConflictException("Email already registered in the system");
-    }
+  public Set<String> findRegisteredEmails(Collection<String> emails) {
+    return repository.findRegisteredEmails(emails);
+  }
+
+  @Override
+  public Set<String> findRegisteredLogins(Collection<String> logins) {
+    return repository.findRegisteredLogins(logins);
   }
 }
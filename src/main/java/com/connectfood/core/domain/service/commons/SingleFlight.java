@@ -0,0 +1,75 @@
+package com.connectfood.core.domain.service.commons;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter executed;
+  private final Counter coalesced;
+
+  public SingleFlight(MeterRegistry meterRegistry, String name, String lookup) {
+    this.executed = Counter.builder(name)
+        .tag("lookup", lookup)
+        .tag("result", "executed")
+        .register(meterRegistry);
+    this.coalesced = Counter.builder(name)
+        .tag("lookup", lookup)
+        .tag("result", "coalesced")
+        .register(meterRegistry);
+    Gauge.builder(name + ".in-flight", inFlight, ConcurrentMap::size)
+        .tag("lookup", lookup)
+        .register(meterRegistry);
+  }
+
+  public V execute(K key, Supplier<V> lookup) {
+    final var own = new CompletableFuture<V>();
+    final var running = inFlight.putIfAbsent(key, own);
+    if (running != null) {
+      coalesced.increment();
+      return await(running);
+    }
+
+    executed.increment();
+    try {
+      final var value = lookup.get();
+      own.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, own);
+    }
+  }
+
+  public void forget(K key) {
+    inFlight.remove(key);
+  }
+
+  public void forgetAll() {
+    inFlight.clear();
+  }
+
+  private static <V> V await(CompletableFuture<V> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -1,26 +1,114 @@
 package com.connectfood.core.entrypoint.rest.controller;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import com.connectfood.api.AuthenticationApi;
 import com.connectfood.core.application.usercase.authentication.AuthenticationUseCase;
+import com.connectfood.core.application.usercase.authentication.GetJwksUseCase;
+import com.connectfood.core.application.usercase.authentication.RefreshTokenUseCase;
+import com.connectfood.core.application.usercase.authentication.RevokeTokenUseCase;
+import com.connectfood.core.application.usercase.users.GetUserUseCase;
+import com.connectfood.core.domain.exception.UnauthorizedException;
+import com.connectfood.core.infrastructure.security.AuthenticatedUser;
 import com.connectfood.model.BaseResponseOfJwtTokenResponse;
+import com.connectfood.model.BaseResponseOfUserResponse;
+import com.connectfood.model.JwkSet;
 import com.connectfood.model.LoginValidationRequest;
+import com.connectfood.model.RefreshTokenRequest;
+import com.connectfood.model.RevokeTokenRequest;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.Valid;
 
 @Validated
 @RestController
-@RequiredArgsConstructor
 public class AuthenticationController implements AuthenticationApi {
 
   private final AuthenticationUseCase authenticationUseCase;
+  private final RefreshTokenUseCase refreshTokenUseCase;
+  private final RevokeTokenUseCase revokeTokenUseCase;
+  private final GetJwksUseCase getJwksUseCase;
+  private final GetUserUseCase getUserUseCase;
+  private final CacheControl jwksCacheControl;
+  private final NativeWebRequest nativeWebRequest;
+
+  public AuthenticationController(
+      AuthenticationUseCase authenticationUseCase,
+      RefreshTokenUseCase refreshTokenUseCase,
+      RevokeTokenUseCase revokeTokenUseCase,
+      GetJwksUseCase getJwksUseCase,
+      GetUserUseCase getUserUseCase,
+      NativeWebRequest nativeWebRequest,
+      @Value("${security.jwt.jwks.max-age-seconds:300}") long jwksMaxAgeSeconds
+  ) {
+    this.authenticationUseCase = authenticationUseCase;
+    this.refreshTokenUseCase = refreshTokenUseCase;
+    this.revokeTokenUseCase = revokeTokenUseCase;
+    this.getJwksUseCase = getJwksUseCase;
+    this.getUserUseCase = getUserUseCase;
+    this.jwksCacheControl = CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds))
+        .cachePublic();
+    this.nativeWebRequest = nativeWebRequest;
+  }
+
+  @Override
+  public Optional<NativeWebRequest> getRequest() {
+    return Optional.of(nativeWebRequest);
+  }
 
   @Override
   public ResponseEntity<BaseResponseOfJwtTokenResponse> login(LoginValidationRequest request) {
     final var response = authenticationUseCase.execute(request);
     return ResponseEntity.ok(response);
   }
+
+  @Override
+  public ResponseEntity<BaseResponseOfJwtTokenResponse> refreshToken(@Valid RefreshTokenRequest request) {
+    final var response = refreshTokenUseCase.execute(request);
+    return ResponseEntity.ok(response);
+  }
+
+  @Override
+  public ResponseEntity<Void> revokeToken(@Valid RevokeTokenRequest request) {
+    revokeTokenUseCase.execute(request);
+    return ResponseEntity.noContent()
+        .build();
+  }
+
+  @Override
+  public ResponseEntity<BaseResponseOfUserResponse> getCurrentUser() {
+    final var authentication = SecurityContextHolder.getContext()
+        .getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+      throw new UnauthorizedException("Unauthorized");
+    }
+    final var result = getUserUseCase.execute(user.getUuid());
+    return ResponseEntity.ok(result);
+  }
+
+  @Override
+  public ResponseEntity<JwkSet> getJwks() {
+    final var etag = getJwksUseCase.etag();
+    final var notModified = getRequest().map(request -> request.checkNotModified(etag))
+        .orElse(false);
+    if (notModified) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(jwksCacheControl)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(jwksCacheControl)
+        .body(getJwksUseCase.execute());
+  }
 }
@@ -1,22 +1,37 @@
 package com.connectfood.core.entrypoint.rest.controller;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import com.connectfood.api.UsersApi;
+import com.connectfood.core.application.usercase.users.BatchDeleteUsersUseCase;
+import com.connectfood.core.application.usercase.users.BatchGetUsersUseCase;
 import com.connectfood.core.application.usercase.users.ChangedPasswordUseCase;
 import com.connectfood.core.application.usercase.users.CreateUserUseCase;
 import com.connectfood.core.application.usercase.users.DeleteUserUseCase;
 import com.connectfood.core.application.usercase.users.GetUserUseCase;
+import com.connectfood.core.application.usercase.users.ImportUsersUseCase;
 import com.connectfood.core.application.usercase.users.ListUsersUseCase;
+import com.connectfood.core.application.usercase.users.SearchUsersUseCase;
 import com.connectfood.core.application.usercase.users.UpdateUserUseCase;
 import com.connectfood.model.BaseResponseOfUserResponse;
+import com.connectfood.model.BaseResponseOfUsersBatchDeleteResponse;
+import com.connectfood.model.BaseResponseOfUsersBatchGetResponse;
 import com.connectfood.model.ChangePasswordRequest;
 import com.connectfood.model.PageResponseOfUserResponse;
 import com.connectfood.model.UserCreateRequest;
 import com.connectfood.model.UserUpdateRequest;
+import com.connectfood.model.UsersBatchDeleteRequest;
+import com.connectfood.model.UsersBatchGetRequest;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,12 +41,24 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UsersController implements UsersApi {
 
+  private static final String EMBED_ADDRESSES = "addresses";
+
   private final CreateUserUseCase createUserUseCase;
+  private final ImportUsersUseCase importUsersUseCase;
   private final ListUsersUseCase listUsersUseCase;
+  private final SearchUsersUseCase searchUsersUseCase;
   private final GetUserUseCase getUserUseCase;
+  private final BatchGetUsersUseCase batchGetUsersUseCase;
   private final UpdateUserUseCase updateUserUseCase;
   private final ChangedPasswordUseCase changedPasswordUseCase;
   private final DeleteUserUseCase deleteUserUseCase;
+  private final BatchDeleteUsersUseCase batchDeleteUsersUseCase;
+  private final NativeWebRequest nativeWebRequest;
+
+  @Override
+  public Optional<NativeWebRequest> getRequest() {
+    return Optional.of(nativeWebRequest);
+  }
 
   @Override
   public ResponseEntity<BaseResponseOfUserResponse> createUser(@Valid UserCreateRequest request) {
@@ -41,20 +68,52 @@ public class UsersController implements UsersApi {
   }
 
   @Override
-  public ResponseEntity<PageResponseOfUserResponse> listUsers(String name, Integer page, Integer size) {
-    final var result = listUsersUseCase.execute(name, page, size);
+  public ResponseEntity<Resource> importUsers(Resource body) {
+    final var contentType = getRequest().map(request -> request.getHeader(HttpHeaders.CONTENT_TYPE))
+        .map(MediaType::parseMediaType)
+        .orElse(MediaType.APPLICATION_NDJSON);
+
+    final var report = importUsersUseCase.execute(body, contentType);
+    final var response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header("X-Import-Created", String.valueOf(report.created()))
+        .header("X-Import-Rejected", String.valueOf(report.rejected()));
+    if (report.stoppedAtLine() != null) {
+      response.header("X-Import-Stopped-At-Line", String.valueOf(report.stoppedAtLine()));
+    }
+    return response.body(report.content());
+  }
+
+  @Override
+  public ResponseEntity<PageResponseOfUserResponse> listUsers(String name, Integer page, Integer size,
+      String cursor, String count, String embed) {
+    final var result = listUsersUseCase.execute(name, page, size, cursor, count, EMBED_ADDRESSES.equals(embed));
+    return conditional(result.etag(), result::response);
+  }
+
+  @Override
+  public ResponseEntity<PageResponseOfUserResponse> searchUsers(String q, Integer page, Integer size) {
+    final var result = searchUsersUseCase.execute(q, page, size);
     return ResponseEntity.ok(result);
   }
 
   @Override
-  public ResponseEntity<BaseResponseOfUserResponse> getUserByUuid(String uuid) {
-    final var result = getUserUseCase.execute(uuid);
+  public ResponseEntity<BaseResponseOfUserResponse> getUserByUuid(String uuid, String embed) {
+    final var embedAddresses = EMBED_ADDRESSES.equals(embed);
+    final var user = getUserUseCase.find(uuid);
+    final var etag = embedAddresses ? null : getUserUseCase.etag(user);
+    return conditional(etag, () -> getUserUseCase.execute(user, embedAddresses));
+  }
+
+  @Override
+  public ResponseEntity<BaseResponseOfUsersBatchGetResponse> batchGetUsers(@Valid UsersBatchGetRequest request) {
+    final var result = batchGetUsersUseCase.execute(request);
     return ResponseEntity.ok(result);
   }
 
   @Override
   public ResponseEntity<BaseResponseOfUserResponse> updateUser(String uuid, @Valid UserUpdateRequest request) {
-    final var result = updateUserUseCase.execute(uuid, request);
+    final var result = updateUserUseCase.execute(uuid, ifMatch(), request);
     return ResponseEntity.ok(result);
   }
 
@@ -65,10 +124,38 @@ public class UsersController implements UsersApi {
         .build();
   }
 
+  @Override
+  public ResponseEntity<BaseResponseOfUsersBatchDeleteResponse> batchDeleteUsers(
+      @Valid UsersBatchDeleteRequest request) {
+    final var result = batchDeleteUsersUseCase.execute(request);
+    return ResponseEntity.ok(result);
+  }
+
   @Override
   public ResponseEntity<Void> changePassword(String uuid, @Valid ChangePasswordRequest request) {
-    changedPasswordUseCase.execute(uuid, request);
+    changedPasswordUseCase.execute(uuid, ifMatch(), request);
     return ResponseEntity.noContent()
         .build();
   }
+
+  private <T> ResponseEntity<T> conditional(String etag, Supplier<T> body) {
+    if (etag == null) {
+      return ResponseEntity.ok(body.get());
+    }
+    final var notModified = getRequest().map(request -> request.checkNotModified(etag))
+        .orElse(false);
+    if (notModified) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .body(body.get());
+  }
+
+  private String ifMatch() {
+    return getRequest().map(request -> request.getHeader(HttpHeaders.IF_MATCH))
+        .orElse(null);
+  }
 }
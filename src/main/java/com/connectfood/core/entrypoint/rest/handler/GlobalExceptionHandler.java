@@ -6,11 +6,14 @@ import java.util.List;
 import com.connectfood.core.domain.exception.BadRequestException;
 import com.connectfood.core.domain.exception.ConflictException;
 import com.connectfood.core.domain.exception.NotFoundException;
+import com.connectfood.core.domain.exception.PreconditionFailedException;
+import com.connectfood.core.domain.exception.ServiceUnavailableException;
 import com.connectfood.core.domain.exception.UnauthorizedException;
 import com.connectfood.core.domain.factory.ProblemDetailsFactory;
 import com.connectfood.model.ProblemDetails;
 import com.connectfood.model.ProblemDetailsErrorsInner;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -49,6 +52,13 @@ public class GlobalExceptionHandler {
         exception.getMessage(), HttpStatus.CONFLICT, request.getRequestURI());
   }
 
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ProblemDetails> handlePreconditionFailedException(
+      final PreconditionFailedException exception, final HttpServletRequest request) {
+    return buildApiErrorResponse(
+        exception.getMessage(), HttpStatus.PRECONDITION_FAILED, request.getRequestURI());
+  }
+
   @ExceptionHandler(UnauthorizedException.class)
   public ResponseEntity<ProblemDetails> handleUnauthorizedException(
       final UnauthorizedException exception, final HttpServletRequest request) {
@@ -56,6 +66,16 @@ public class GlobalExceptionHandler {
         exception.getMessage(), HttpStatus.UNAUTHORIZED, request.getRequestURI());
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ProblemDetails> handleServiceUnavailableException(
+      final ServiceUnavailableException exception, final HttpServletRequest request) {
+    final var response = problemDetailsFactory.build(
+        HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(response);
+  }
+
   @ExceptionHandler(InternalAuthenticationServiceException.class)
   public ResponseEntity<ProblemDetails> handleInternalAuthenticationServiceException(
       final UnauthorizedException exception, final HttpServletRequest request) {
@@ -1,20 +1,17 @@
 package com.connectfood.core.infrastructure.config;
 
 import com.connectfood.core.infrastructure.security.JwtAuthenticationFilter;
+import com.connectfood.core.infrastructure.security.LoginRateLimitFilter;
+import com.connectfood.core.infrastructure.security.PasswordEncoderFactory;
 import com.connectfood.core.infrastructure.security.RestAccessDeniedHandler;
 import com.connectfood.core.infrastructure.security.RestAuthEntryPoint;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -27,26 +24,13 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
-  private final org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
+  private final LoginRateLimitFilter loginRateLimitFilter;
   private final RestAuthEntryPoint restAuthEntryPoint;
   private final RestAccessDeniedHandler accessDeniedHandler;
 
   @Bean
-  PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
-
-  @Bean
-  public AuthenticationProvider authenticationProvider() {
-    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-    provider.setUserDetailsService(userDetailsService);
-    provider.setPasswordEncoder(passwordEncoder());
-    return provider;
-  }
-
-  @Bean
-  public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-    return config.getAuthenticationManager();
+  PasswordEncoder passwordEncoder(PasswordEncoderFactory factory) {
+    return factory.create();
   }
 
   @Bean
@@ -59,18 +43,19 @@ public class SecurityConfig {
             .accessDeniedHandler(accessDeniedHandler))
         .authorizeHttpRequests(auth -> auth
             .requestMatchers(
-                "/v1/auth/login",
+                "/v1/auth/login", "/v1/auth/refresh", "/v1/auth/revoke",
+                "/.well-known/jwks.json",
                 "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
                 "/actuator/health"
             )
             .permitAll()
-            .requestMatchers("/v1/users", "/v1/users/**")
+            .requestMatchers("/v1/users", "/v1/users:*", "/v1/users/**", "/v1/auth/me")
             .authenticated()
             .anyRequest()
             .permitAll()
         )
-        .authenticationProvider(authenticationProvider())
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
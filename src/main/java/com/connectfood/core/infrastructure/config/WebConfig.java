@@ -0,0 +1,83 @@
+package com.connectfood.core.infrastructure.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.connectfood.core.application.response.SerializedUserResponse;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.addFirst(new StreamingResourceConverter());
+    converters.addFirst(new SerializedResponseConverter());
+  }
+
+  private static final class StreamingResourceConverter extends AbstractHttpMessageConverter<Resource> {
+
+    private StreamingResourceConverter() {
+      super(MediaType.APPLICATION_NDJSON, new MediaType("text", "csv"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+      return Resource.class == clazz;
+    }
+
+    @Override
+    protected Resource readInternal(Class<? extends Resource> clazz, HttpInputMessage inputMessage)
+        throws IOException {
+      return new InputStreamResource(inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+      try (final var input = resource.getInputStream()) {
+        input.transferTo(outputMessage.getBody());
+      }
+    }
+  }
+
+  private static final class SerializedResponseConverter
+      extends AbstractHttpMessageConverter<SerializedUserResponse> {
+
+    private SerializedResponseConverter() {
+      super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+      return SerializedUserResponse.class == clazz;
+    }
+
+    @Override
+    protected Long getContentLength(SerializedUserResponse response, MediaType contentType) {
+      return (long) response.getJson().length;
+    }
+
+    @Override
+    protected SerializedUserResponse readInternal(Class<? extends SerializedUserResponse> clazz,
+        HttpInputMessage inputMessage) throws IOException {
+      return new SerializedUserResponse(inputMessage.getBody()
+          .readAllBytes());
+    }
+
+    @Override
+    protected void writeInternal(SerializedUserResponse response, HttpOutputMessage outputMessage)
+        throws IOException {
+      outputMessage.getBody()
+          .write(response.getJson());
+    }
+  }
+}
@@ -1,13 +1,14 @@
 package com.connectfood.core.infrastructure.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import com.connectfood.core.domain.exception.NotFoundException;
 import com.connectfood.core.domain.model.Address;
 import com.connectfood.core.domain.repository.AddressRepository;
 import com.connectfood.core.infrastructure.persistence.jpa.JpaAddressRepository;
-import com.connectfood.core.infrastructure.persistence.jpa.JpaUsersRepository;
 import com.connectfood.core.infrastructure.persistence.mapper.AddressInfrastructureMapper;
 
 import org.springframework.stereotype.Repository;
@@ -19,7 +20,6 @@ import lombok.AllArgsConstructor;
 public class AddressRepositoryImpl implements AddressRepository {
 
   private final JpaAddressRepository repository;
-  private final JpaUsersRepository usersRepository;
   private final AddressInfrastructureMapper mapper;
 
   @Override
@@ -32,18 +32,13 @@ public class AddressRepositoryImpl implements AddressRepository {
   }
 
   @Override
-  public Address save(Address address, String userUuid) {
-    final var userEntity = usersRepository.findByUuid(UUID.fromString(userUuid))
-        .orElseThrow(() -> new NotFoundException("User not found"));
-
-    final var entity = mapper.toEntity(address, userEntity);
-    return mapper.toDomain(repository.save(entity));
-  }
-
-  @Override
-  public void deleteByUserUuid(String userUuid) {
-    final var entities = repository.findAllByUserUuid(UUID.fromString(userUuid));
-
-    repository.deleteAll(entities);
+  public Map<Long, List<Address>> findAllByUserIds(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return Map.of();
+    }
+    return repository.findAllByUserIdIn(userIds)
+        .stream()
+        .collect(Collectors.groupingBy(entity -> entity.getUser()
+            .getId(), Collectors.mapping(mapper::toDomain, Collectors.toList())));
   }
 }
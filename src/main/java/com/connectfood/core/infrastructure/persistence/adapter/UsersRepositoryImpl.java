@@ -1,88 +1,285 @@
 package com.connectfood.core.infrastructure.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import com.connectfood.core.domain.enums.CountMode;
+import com.connectfood.core.domain.exception.ConflictException;
 import com.connectfood.core.domain.exception.NotFoundException;
+import com.connectfood.core.domain.exception.VersionConflictException;
 import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.UsersWithAddresses;
 import com.connectfood.core.domain.model.commons.PageModel;
 import com.connectfood.core.domain.repository.UsersRepository;
+import com.connectfood.core.domain.service.commons.SingleFlight;
+import com.connectfood.core.infrastructure.persistence.cache.UsersViewCache;
+import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangedEvent;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangesMissedEvent;
+import com.connectfood.core.infrastructure.persistence.jdbc.JdbcUsersRepository;
 import com.connectfood.core.infrastructure.persistence.jpa.JpaUsersRepository;
 import com.connectfood.core.infrastructure.persistence.mapper.UsersInfrastructureMapper;
 import com.connectfood.core.infrastructure.persistence.specification.UserSpecification;
+import com.connectfood.core.infrastructure.persistence.specification.UsersCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.springframework.data.domain.PageRequest;
+import org.postgresql.util.PSQLException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Repository
-@AllArgsConstructor
 public class UsersRepositoryImpl implements UsersRepository {
 
+  private static final Sort KEYSET_ORDER = Sort.by("fullName", "id");
+  private static final ObjectMapper PLAN_READER = new ObjectMapper();
+  private static final Pattern SEARCH_SEPARATORS = Pattern.compile("[@._+]+");
+  private static final Pattern SEARCH_HYPHENS = Pattern.compile("(?U)(\\w)-+(?=\\w)");
+
   private final JpaUsersRepository repository;
   private final UsersInfrastructureMapper mapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcUsersRepository jdbcRepository;
+  private final UsersViewCache viewCache;
+  private final SingleFlight<UUID, Optional<UsersEntity>> byUuid;
+  private final SingleFlight<LoginOrEmail, Optional<UsersEntity>> byLoginOrEmail;
+
+  public UsersRepositoryImpl(
+      JpaUsersRepository repository,
+      UsersInfrastructureMapper mapper,
+      ApplicationEventPublisher eventPublisher,
+      JdbcTemplate jdbcTemplate,
+      JdbcUsersRepository jdbcRepository,
+      UsersViewCache viewCache,
+      MeterRegistry meterRegistry
+  ) {
+    this.repository = repository;
+    this.mapper = mapper;
+    this.eventPublisher = eventPublisher;
+    this.jdbcTemplate = jdbcTemplate;
+    this.jdbcRepository = jdbcRepository;
+    this.viewCache = viewCache;
+    this.byUuid = new SingleFlight<>(meterRegistry, "users.lookups", "by-uuid");
+    this.byLoginOrEmail = new SingleFlight<>(meterRegistry, "users.lookups", "by-login-or-email");
+  }
 
   @Override
-  public PageModel<List<Users>> findAll(String name, Integer page, Integer size) {
+  @Transactional(readOnly = true)
+  public PageModel<List<UsersView>> findAll(String name, Integer page, Integer size, CountMode countMode) {
+    planWithPattern(name);
     final var spec = Specification.allOf(UserSpecification.nameContains(name));
-    final var pageable = PageRequest.of(page, size);
+    final var offset = (long) page * size;
 
-    final var entities = repository.findAll(spec, pageable);
+    final var rows = repository.findViews(spec, KEYSET_ORDER, offset, size + 1);
+    final var hasNext = rows.size() > size;
+    final var result = rows.subList(0, Math.min(size, rows.size()));
+    final var seen = offset + result.size();
 
-    final var result = entities.stream()
-        .map(mapper::toDomain)
-        .toList();
+    if (!hasNext && (!result.isEmpty() || page == 0)) {
+      return new PageModel<>(result, seen, null, countMode, false);
+    }
+    final Long total = switch (countMode) {
+      case EXACT -> repository.count(spec);
+      case ESTIMATE -> Math.max(estimateCount(name), hasNext ? seen + 1 : seen);
+      case NONE -> null;
+    };
+    return new PageModel<>(result, total, nextCursor(result, hasNext), countMode, hasNext);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageModel<List<UsersView>> findAllAfter(String name, String cursor, Integer size, CountMode countMode) {
+    planWithPattern(name);
+    final var after = cursor == null || cursor.isBlank() ? null : UsersCursor.decode(cursor);
+    final var spec = Specification.allOf(UserSpecification.nameContains(name), UserSpecification.after(after));
 
-    return new PageModel<>(result, entities.getTotalElements());
+    final var rows = repository.findViews(spec, KEYSET_ORDER, 0, size + 1);
+    final var hasNext = rows.size() > size;
+    final var result = rows.subList(0, Math.min(size, rows.size()));
+
+    final Long total = switch (countMode) {
+      case EXACT -> repository.count(Specification.allOf(UserSpecification.nameContains(name)));
+      case ESTIMATE -> estimateCount(name);
+      case NONE -> null;
+    };
+    return new PageModel<>(result, total, nextCursor(result, hasNext), countMode, hasNext);
+  }
+
+  @Override
+  public PageModel<List<UsersView>> search(String query, Integer page, Integer size) {
+    final var terms = SEARCH_SEPARATORS.matcher(query)
+        .replaceAll(" ");
+    final var rows = jdbcRepository.search(SEARCH_HYPHENS.matcher(terms)
+        .replaceAll("$1 "), size + 1, (long) page * size);
+
+    final var hasNext = rows.size() > size;
+    final var result = rows.subList(0, Math.min(size, rows.size()));
+
+    return new PageModel<>(result, hasNext ? null : (long) page * size + result.size(), null, CountMode.NONE, hasNext);
   }
 
   @Override
   public Optional<Users> findByUuid(String uuid) {
-    final var entity = repository.findByUuid(UUID.fromString(uuid));
+    final var key = UUID.fromString(uuid);
+    return byUuid.execute(key, () -> repository.findByUuid(key))
+        .map(mapper::toDomain);
+  }
 
-    return entity.map(mapper::toDomain);
+  @Override
+  public Map<String, UsersView> findViewsByUuid(Collection<String> uuids) {
+    final var keys = uuids.stream()
+        .map(uuid -> UUID.fromString(uuid)
+            .toString())
+        .collect(Collectors.toSet());
+    return viewCache.getAll(keys, jdbcRepository::findViewsByUuid);
   }
 
   @Override
-  public Users save(Users user) {
-    final var entity = repository.save(mapper.toEntity(user));
-    return mapper.toDomain(entity);
+  public Optional<UsersView> findViewByUuid(String uuid) {
+    final var key = UUID.fromString(uuid);
+    return viewCache.get(key.toString(), ignored -> repository.findViewByUuid(key));
   }
 
   @Override
-  public Users save(String uuid, Users user) {
-    final var entity = repository.findByUuid(UUID.fromString(uuid))
-        .orElseThrow(() -> new NotFoundException("User not found"));
+  public List<UsersWithAddresses> saveAll(List<UsersWithAddresses> users) {
+    return jdbcRepository.saveAll(users);
+  }
 
-    final var entityUpdated = repository.save(mapper.toEntity(entity, user));
-    return mapper.toDomain(entityUpdated);
+  @Override
+  public Users update(String uuid, Long version, Users changes) {
+    final Optional<Users> updated;
+    try {
+      updated = jdbcRepository.update(uuid, version, changes);
+    } catch (DuplicateKeyException e) {
+      throw duplicate(e);
+    }
+    final var user = updated.orElseThrow(() -> staleVersion(uuid));
+    eventPublisher.publishEvent(new UsersChangedEvent(uuid));
+    return user;
   }
 
   @Override
-  public void changedPassword(String uuid, Users user) {
-    final var entity = repository.findByUuid(UUID.fromString(uuid))
-        .orElseThrow(() -> new NotFoundException("User not found"));
+  public void changedPassword(String uuid, Long version, String password) {
+    jdbcRepository.updatePassword(uuid, version, password)
+        .orElseThrow(() -> staleVersion(uuid));
+    eventPublisher.publishEvent(new UsersChangedEvent(uuid));
+  }
 
-    final var entityUpdated = repository.save(mapper.toEntity(entity, user.getPassword()));
-    mapper.toDomain(entityUpdated);
+  @Override
+  public void upgradePassword(String uuid, String currentPassword, String password) {
+    if (repository.updatePasswordByUuid(UUID.fromString(uuid), currentPassword, password) > 0) {
+      eventPublisher.publishEvent(new UsersChangedEvent(uuid));
+    }
   }
 
   @Override
-  public void deleteByUuid(String uuid) {
-    repository.deleteByUuid(UUID.fromString(uuid));
+  public boolean deleteByUuid(String uuid) {
+    return !deleteAllByUuid(List.of(UUID.fromString(uuid)
+        .toString())).isEmpty();
+  }
+
+  @Override
+  public List<String> deleteAllByUuid(Collection<String> uuids) {
+    final var deleted = jdbcRepository.deleteAllByUuid(uuids);
+    deleted.forEach(uuid -> eventPublisher.publishEvent(new UsersChangedEvent(uuid)));
+    return deleted;
   }
 
   @Override
   public Optional<Users> findByLoginOrEmail(String login, String email) {
-    return repository.findByLoginOrEmail(login, email)
+    return byLoginOrEmail.execute(new LoginOrEmail(login, email), () -> repository.findByLoginOrEmail(login, email))
         .map(mapper::toDomain);
   }
 
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUsersChanged(UsersChangedEvent event) {
+    byUuid.forget(UUID.fromString(event.uuid()));
+    byLoginOrEmail.forgetAll();
+  }
+
+  @EventListener
+  public void onUsersChangesMissed(UsersChangesMissedEvent event) {
+    byUuid.forgetAll();
+    byLoginOrEmail.forgetAll();
+  }
+
   @Override
-  public boolean existsByEmail(String email) {
-    return repository.existsByEmail(email);
+  public Set<String> findRegisteredEmails(Collection<String> emails) {
+    return jdbcRepository.findRegisteredEmails(emails);
+  }
+
+  @Override
+  public Set<String> findRegisteredLogins(Collection<String> logins) {
+    return jdbcRepository.findRegisteredLogins(logins);
+  }
+
+  private RuntimeException staleVersion(String uuid) {
+    if (!repository.existsByUuid(UUID.fromString(uuid))) {
+      return new NotFoundException("User not found");
+    }
+    return new VersionConflictException("User was changed by another request, reload and try again");
+  }
+
+  private static RuntimeException duplicate(DuplicateKeyException e) {
+    final var constraint = e.getMostSpecificCause() instanceof PSQLException cause
+        && cause.getServerErrorMessage() != null ? cause.getServerErrorMessage()
+        .getConstraint() : null;
+    if ("uq_users_login".equals(constraint)) {
+      return new ConflictException("Login already registered in the system");
+    }
+    if ("uq_users_email".equals(constraint)) {
+      return new ConflictException("Email already registered in the system");
+    }
+    return e;
+  }
+
+  private void planWithPattern(String name) {
+    if (UserSpecification.namePattern(name) != null) {
+      // A generic plan for LIKE $1 cannot use the trigram index.
+      jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_custom_plan");
+    }
+  }
+
+  private long estimateCount(String name) {
+    final var pattern = UserSpecification.namePattern(name);
+    final var plan = pattern == null
+        ? jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT 1 FROM core.users", String.class)
+        : jdbcTemplate.queryForObject(
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM core.users WHERE lower(full_name) LIKE ? ESCAPE '\\'",
+            String.class, pattern);
+    try {
+      return PLAN_READER.readTree(plan)
+          .path(0)
+          .path("Plan")
+          .path("Plan Rows")
+          .asLong();
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not read query plan", e);
+    }
+  }
+
+  private static String nextCursor(List<UsersView> users, boolean hasNext) {
+    return hasNext && !users.isEmpty() ? UsersCursor.of(users.getLast())
+        .encode() : null;
+  }
+
+  private record LoginOrEmail(String login, String email) {
   }
 }
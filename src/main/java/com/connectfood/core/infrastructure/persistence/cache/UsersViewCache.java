@@ -0,0 +1,121 @@
+package com.connectfood.core.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.service.commons.SingleFlight;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangedEvent;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangesMissedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class UsersViewCache {
+
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<String, UsersView> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  private final SingleFlight<String, Optional<UsersView>> loads;
+
+  public UsersViewCache(
+      MeterRegistry meterRegistry,
+      @Value("${users.cache.max-size:10000}") long maxSize,
+      @Value("${users.cache.ttl-seconds:300}") long ttlSeconds
+  ) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.view");
+    this.loads = new SingleFlight<>(meterRegistry, "users.lookups", "view-by-uuid");
+  }
+
+  public Optional<UsersView> get(String uuid, Function<String, Optional<UsersView>> loader) {
+    final var cached = cache.getIfPresent(uuid);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    return loads.execute(uuid, () -> {
+      final var seen = generations.get(stripe(uuid));
+      final var loaded = loader.apply(uuid);
+      loaded.ifPresent(view -> {
+        cache.put(uuid, view);
+        if (generations.get(stripe(uuid)) != seen) {
+          cache.invalidate(uuid);
+        }
+      });
+      return loaded;
+    });
+  }
+
+  public Map<String, UsersView> getAll(Collection<String> uuids, Function<Set<String>, List<UsersView>> loader) {
+    final var found = new HashMap<>(cache.getAllPresent(uuids));
+    final var missing = uuids.stream()
+        .filter(uuid -> !found.containsKey(uuid))
+        .collect(Collectors.toSet());
+    if (missing.isEmpty()) {
+      return found;
+    }
+
+    final var seen = new HashMap<String, Long>();
+    missing.forEach(uuid -> seen.put(uuid, generations.get(stripe(uuid))));
+    final var loaded = new HashMap<String, UsersView>();
+    for (UsersView view : loader.apply(missing)) {
+      loaded.put(view.uuid()
+          .toString(), view);
+    }
+    cache.putAll(loaded);
+    cache.invalidateAll(loaded.keySet()
+        .stream()
+        .filter(uuid -> generations.get(stripe(uuid)) != seen.getOrDefault(uuid, -1L))
+        .toList());
+    found.putAll(loaded);
+    return found;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUsersChanged(UsersChangedEvent event) {
+    generations.incrementAndGet(stripe(event.uuid()));
+    loads.forget(event.uuid());
+    if (event.version() == null) {
+      cache.invalidate(event.uuid());
+      return;
+    }
+    cache.asMap()
+        .computeIfPresent(event.uuid(), (uuid, view) -> view.version() < event.version() ? null : view);
+  }
+
+  @EventListener
+  public void onUsersChangesMissed(UsersChangesMissedEvent event) {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    loads.forgetAll();
+    cache.invalidateAll();
+  }
+
+  private static int stripe(String uuid) {
+    final var hash = uuid.hashCode();
+    return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+  }
+}
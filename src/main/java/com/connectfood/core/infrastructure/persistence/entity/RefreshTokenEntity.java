@@ -0,0 +1,49 @@
+package com.connectfood.core.infrastructure.persistence.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "refresh_token")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshTokenEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "token_hash", nullable = false, unique = true, updatable = false)
+  private String tokenHash;
+
+  @Column(name = "user_uuid", nullable = false, updatable = false)
+  private UUID userUuid;
+
+  @Column(name = "token_version", nullable = false, updatable = false)
+  private Long tokenVersion;
+
+  @Column(name = "expires_at", nullable = false, updatable = false)
+  private Instant expiresAt;
+
+  @Column(name = "revoked_at")
+  private Instant revokedAt;
+
+  @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+      columnDefinition = "timestamptz default now()")
+  private Instant createdAt;
+}
@@ -41,4 +41,8 @@ public class UsersEntity extends BaseEntity {
   @JdbcTypeCode(SqlTypes.JSON)
   @Column(columnDefinition = "jsonb not null default '[]'")
   private List<String> roles;
+
+  @Column(name = "token_version", nullable = false, insertable = false,
+      columnDefinition = "integer default 0")
+  private Long tokenVersion;
 }
@@ -0,0 +1,131 @@
+package com.connectfood.core.infrastructure.persistence.event;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class UsersChangeNotificationListener implements SmartLifecycle {
+
+  private static final String CHANNEL = "core_users_changed";
+  private static final int POLL_TIMEOUT_MS = 1000;
+
+  private final ApplicationEventPublisher publisher;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final boolean enabled;
+  private final long reconnectDelayMs;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public UsersChangeNotificationListener(
+      ApplicationEventPublisher publisher,
+      @Value("${spring.datasource.url}") String url,
+      @Value("${spring.datasource.username:}") String username,
+      @Value("${spring.datasource.password:}") String password,
+      @Value("${users.change-notifications.enabled:true}") boolean enabled,
+      @Value("${users.change-notifications.reconnect-delay-ms:5000}") long reconnectDelayMs
+  ) {
+    this.publisher = publisher;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.enabled = enabled;
+    this.reconnectDelayMs = reconnectDelayMs;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    worker = Thread.ofPlatform()
+        .name("users-change-listener")
+        .daemon()
+        .start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      try {
+        worker.join(2L * POLL_TIMEOUT_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread()
+            .interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    var missed = false;
+    while (running) {
+      try (var connection = DriverManager.getConnection(url, username, password);
+          var statement = connection.createStatement()) {
+        statement.execute("LISTEN " + CHANNEL);
+        if (missed) {
+          publisher.publishEvent(new UsersChangesMissedEvent());
+        }
+
+        final var notifications = connection.unwrap(PGConnection.class);
+        while (running) {
+          final var received = notifications.getNotifications(POLL_TIMEOUT_MS);
+          if (received == null) {
+            continue;
+          }
+          for (PGNotification notification : received) {
+            publish(notification.getParameter());
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        missed = true;
+        if (running) {
+          log.warn("Users change notifications interrupted, reconnecting in {} ms", reconnectDelayMs, e);
+          pause();
+        }
+      }
+    }
+  }
+
+  private void publish(String payload) {
+    try {
+      final var separator = payload.indexOf(':');
+      if (separator < 0) {
+        publisher.publishEvent(new UsersChangedEvent(payload));
+        return;
+      }
+      publisher.publishEvent(new UsersChangedEvent(payload.substring(0, separator),
+          Long.valueOf(payload.substring(separator + 1))));
+    } catch (RuntimeException e) {
+      log.warn("Could not handle users change notification '{}'", payload, e);
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.connectfood.core.infrastructure.persistence.event;
+
+public record UsersChangedEvent(String uuid, Long version) {
+
+  public UsersChangedEvent(String uuid) {
+    this(uuid, null);
+  }
+}
@@ -0,0 +1,4 @@
+package com.connectfood.core.infrastructure.persistence.event;
+
+public record UsersChangesMissedEvent() {
+}
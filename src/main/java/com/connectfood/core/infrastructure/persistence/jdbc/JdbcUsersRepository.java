@@ -0,0 +1,340 @@
+package com.connectfood.core.infrastructure.persistence.jdbc;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.connectfood.core.domain.model.Address;
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.UsersWithAddresses;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcUsersRepository {
+
+  private static final TypeReference<List<String>> ROLES = new TypeReference<>() {
+  };
+
+  private static final String INSERT_USERS_WITH_ADDRESSES = """
+      with input as (
+        select *
+        from unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[])
+          with ordinality as i(full_name, email, login, password, roles, ord)
+      ), new_users as (
+        insert into core.users (full_name, email, login, password, roles)
+        select full_name, email, login, password, roles::jsonb from input order by ord
+        on conflict do nothing
+        returning id, uuid, full_name, email, login, password, roles, token_version, created_at, updated_at, version
+      ), new_address as (
+        insert into core.address (user_id, street, number, complement, neighborhood, city, state, zip_code,
+          country, address_type, is_default)
+        select u.id, a.street, a.number, a.complement, a.neighborhood, a.city, a.state, a.zip_code,
+          a.country, a.address_type, coalesce(a.is_default, false)
+        from unnest(?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[],
+            ?::text[], ?::text[], ?::boolean[])
+          as a(ord, street, number, complement, neighborhood, city, state, zip_code, country, address_type, is_default)
+        join input i on i.ord = a.ord
+        join new_users u on u.email operator(core.=) i.email::core.citext
+        returning id, uuid, user_id, street, number, complement, neighborhood, city, state, zip_code, country,
+          address_type, is_default, created_at, updated_at, version
+      )
+      select u.id, u.uuid, u.full_name, u.email, u.login, u.password, u.roles, u.token_version, u.created_at,
+        u.updated_at, u.version, a.id as address_id, a.uuid as address_uuid, a.street, a.number, a.complement,
+        a.neighborhood, a.city, a.state, a.zip_code, a.country, a.address_type, a.is_default,
+        a.created_at as address_created_at, a.updated_at as address_updated_at, a.version as address_version
+      from new_users u
+      left join new_address a on a.user_id = u.id
+      order by u.id, a.id
+      """;
+
+  private static final String USER_COLUMNS =
+      "id, uuid, full_name, email, login, password, roles, token_version, created_at, updated_at, version";
+
+  private static final String SEARCH = """
+      select u.id, u.uuid, u.full_name, u.email, u.login, u.roles, u.created_at, u.updated_at, u.version
+      from core.users u, websearch_to_tsquery('core.portuguese_unaccent', ?) q
+      where u.search_vector @@ q
+      order by ts_rank_cd(u.search_vector, q) desc, u.id
+      limit ? offset ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public List<UsersWithAddresses> saveAll(List<UsersWithAddresses> users) {
+    if (users.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(connection -> insertStatement(connection, users), this::readUsersWithAddresses);
+  }
+
+  public List<UsersView> search(String query, int limit, long offset) {
+    return jdbcTemplate.query(SEARCH, (rs, rowNum) -> readView(rs), query, limit, offset);
+  }
+
+  public List<UsersView> findViewsByUuid(Collection<String> uuids) {
+    if (uuids.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(connection -> {
+      final var statement = connection.prepareStatement("""
+          select id, uuid, full_name, email, login, roles, created_at, updated_at, version
+          from core.users
+          where uuid = any(?)
+          """);
+      statement.setArray(1, connection.createArrayOf("uuid", uuids.toArray()));
+      return statement;
+    }, (rs, rowNum) -> readView(rs));
+  }
+
+  public Optional<Users> update(String uuid, Long version, Users changes) {
+    final var assignments = new ArrayList<String>();
+    final var values = new ArrayList<Object>();
+    if (changes.getFullName() != null) {
+      assignments.add("full_name = ?");
+      values.add(changes.getFullName());
+    }
+    if (changes.getEmail() != null) {
+      assignments.add("email = ?");
+      values.add(changes.getEmail());
+    }
+    if (changes.getLogin() != null) {
+      assignments.add("login = ?");
+      values.add(changes.getLogin());
+    }
+    if (changes.getRoles() != null) {
+      final var roles = writeRoles(changes.getRoles());
+      assignments.add(
+          "token_version = token_version + case when roles is distinct from ?::jsonb then 1 else 0 end");
+      assignments.add("roles = ?::jsonb");
+      values.add(roles);
+      values.add(roles);
+    }
+    return update(uuid, version, assignments, values);
+  }
+
+  public Optional<Users> updatePassword(String uuid, Long version, String password) {
+    final var assignments = new ArrayList<String>();
+    final var values = new ArrayList<Object>();
+    assignments.add("password = ?");
+    assignments.add("token_version = token_version + 1");
+    values.add(password);
+    return update(uuid, version, assignments, values);
+  }
+
+  public List<String> deleteAllByUuid(Collection<String> uuids) {
+    if (uuids.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(connection -> {
+      final var statement = connection.prepareStatement(
+          "delete from core.users where uuid = any(?) returning uuid");
+      statement.setArray(1, connection.createArrayOf("uuid", uuids.toArray()));
+      return statement;
+    }, (rs, rowNum) -> rs.getString(1));
+  }
+
+  public Set<String> findRegisteredEmails(Collection<String> emails) {
+    return findRegistered("email", emails);
+  }
+
+  public Set<String> findRegisteredLogins(Collection<String> logins) {
+    return findRegistered("login", logins);
+  }
+
+  private Set<String> findRegistered(String column, Collection<String> values) {
+    if (values.isEmpty()) {
+      return Set.of();
+    }
+    final var sql = "select lower(" + column + "::text) from core.users where " + column
+        + " operator(core.=) any(?::core.citext[])";
+    return new HashSet<>(jdbcTemplate.query(connection -> {
+      final var statement = connection.prepareStatement(sql);
+      statement.setArray(1, connection.createArrayOf("text", values.toArray()));
+      return statement;
+    }, (rs, rowNum) -> rs.getString(1)));
+  }
+
+  private Optional<Users> update(String uuid, Long version, List<String> assignments, List<Object> values) {
+    assignments.add("version = version + 1");
+    values.add(uuid);
+    var condition = "uuid = ?::uuid";
+    if (version != null) {
+      condition += " and version = ?";
+      values.add(version);
+    }
+
+    final var sql = "update core.users set " + String.join(", ", assignments)
+        + " where " + condition + " returning " + USER_COLUMNS;
+    return jdbcTemplate.query(sql, (rs, rowNum) -> readUser(rs), values.toArray())
+        .stream()
+        .findFirst();
+  }
+
+  private PreparedStatement insertStatement(Connection connection, List<UsersWithAddresses> users)
+      throws SQLException {
+    final var size = users.size();
+    final var fullNames = new String[size];
+    final var emails = new String[size];
+    final var logins = new String[size];
+    final var passwords = new String[size];
+    final var roles = new String[size];
+
+    final var addressRows = new ArrayList<Long>();
+    final var addresses = new ArrayList<Address>();
+
+    for (int i = 0; i < size; i++) {
+      final var user = users.get(i)
+          .user();
+      fullNames[i] = user.getFullName();
+      emails[i] = user.getEmail();
+      logins[i] = user.getLogin();
+      passwords[i] = user.getPassword();
+      roles[i] = writeRoles(user.getRoles());
+
+      for (Address address : users.get(i)
+          .addresses()) {
+        addressRows.add(i + 1L);
+        addresses.add(address);
+      }
+    }
+
+    final var statement = connection.prepareStatement(INSERT_USERS_WITH_ADDRESSES);
+    var index = 1;
+    statement.setArray(index++, connection.createArrayOf("text", fullNames));
+    statement.setArray(index++, connection.createArrayOf("text", emails));
+    statement.setArray(index++, connection.createArrayOf("text", logins));
+    statement.setArray(index++, connection.createArrayOf("text", passwords));
+    statement.setArray(index++, connection.createArrayOf("text", roles));
+
+    statement.setArray(index++, connection.createArrayOf("bigint", addressRows.toArray()));
+    statement.setArray(index++, textArray(connection, addresses, Address::getStreet));
+    statement.setArray(index++, textArray(connection, addresses, Address::getNumber));
+    statement.setArray(index++, textArray(connection, addresses, Address::getComplement));
+    statement.setArray(index++, textArray(connection, addresses, Address::getNeighborhood));
+    statement.setArray(index++, textArray(connection, addresses, Address::getCity));
+    statement.setArray(index++, textArray(connection, addresses, Address::getState));
+    statement.setArray(index++, textArray(connection, addresses, Address::getZipCode));
+    statement.setArray(index++, textArray(connection, addresses, Address::getCountry));
+    statement.setArray(index++, textArray(connection, addresses, Address::getAddressType));
+    statement.setArray(index, connection.createArrayOf("boolean", addresses.stream()
+        .map(Address::getIsDefault)
+        .toArray()));
+    return statement;
+  }
+
+  private List<UsersWithAddresses> readUsersWithAddresses(ResultSet rs) throws SQLException {
+    final var users = new LinkedHashMap<Long, UsersWithAddresses>();
+    while (rs.next()) {
+      final var id = rs.getLong("id");
+      var user = users.get(id);
+      if (user == null) {
+        user = new UsersWithAddresses(readUser(rs), new ArrayList<>());
+        users.put(id, user);
+      }
+      if (rs.getObject("address_id") != null) {
+        user.addresses()
+            .add(readAddress(rs));
+      }
+    }
+    return List.copyOf(users.values());
+  }
+
+  private Users readUser(ResultSet rs) throws SQLException {
+    return Users.builder()
+        .id(rs.getLong("id"))
+        .uuid(rs.getString("uuid"))
+        .fullName(rs.getString("full_name"))
+        .email(rs.getString("email"))
+        .login(rs.getString("login"))
+        .password(rs.getString("password"))
+        .roles(readRoles(rs.getString("roles")))
+        .tokenVersion(rs.getLong("token_version"))
+        .createdAt(rs.getTimestamp("created_at")
+            .toLocalDateTime())
+        .updatedAt(rs.getTimestamp("updated_at")
+            .toLocalDateTime())
+        .version(rs.getLong("version"))
+        .build();
+  }
+
+  private UsersView readView(ResultSet rs) throws SQLException {
+    return new UsersView(
+        rs.getLong("id"),
+        rs.getObject("uuid", UUID.class),
+        rs.getString("full_name"),
+        rs.getString("email"),
+        rs.getString("login"),
+        readRoles(rs.getString("roles")),
+        rs.getTimestamp("created_at")
+            .toLocalDateTime(),
+        rs.getTimestamp("updated_at")
+            .toLocalDateTime(),
+        rs.getLong("version"));
+  }
+
+  private static Address readAddress(ResultSet rs) throws SQLException {
+    return Address.builder()
+        .id(rs.getLong("address_id"))
+        .uuid(rs.getString("address_uuid"))
+        .street(rs.getString("street"))
+        .number(rs.getString("number"))
+        .complement(rs.getString("complement"))
+        .neighborhood(rs.getString("neighborhood"))
+        .city(rs.getString("city"))
+        .state(rs.getString("state"))
+        .zipCode(rs.getString("zip_code"))
+        .country(rs.getString("country"))
+        .addressType(rs.getString("address_type"))
+        .isDefault(rs.getBoolean("is_default"))
+        .createdAt(rs.getTimestamp("address_created_at")
+            .toLocalDateTime())
+        .updatedAt(rs.getTimestamp("address_updated_at")
+            .toLocalDateTime())
+        .version(rs.getLong("address_version"))
+        .build();
+  }
+
+  private static Array textArray(Connection connection, List<Address> addresses,
+      Function<Address, String> value) throws SQLException {
+    return connection.createArrayOf("text", addresses.stream()
+        .map(value)
+        .toArray());
+  }
+
+  private String writeRoles(List<String> roles) {
+    try {
+      return objectMapper.writeValueAsString(roles == null ? List.of() : roles);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not write roles", e);
+    }
+  }
+
+  private List<String> readRoles(String roles) {
+    try {
+      return objectMapper.readValue(roles, ROLES);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not read roles", e);
+    }
+  }
+}
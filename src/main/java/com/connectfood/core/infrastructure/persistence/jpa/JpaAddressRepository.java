@@ -1,5 +1,6 @@
 package com.connectfood.core.infrastructure.persistence.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,11 +9,15 @@ import com.connectfood.core.infrastructure.persistence.entity.AddressEntity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface JpaAddressRepository extends JpaRepository<AddressEntity, Long>,
     JpaSpecificationExecutor<AddressEntity> {
 
   List<AddressEntity> findAllByUserUuid(UUID uuid);
 
+  @Query("select a from AddressEntity a where a.user.id in :userIds order by a.isDefault desc, a.id")
+  List<AddressEntity> findAllByUserIdIn(Collection<Long> userIds);
+
   Optional<AddressEntity> findByUuid(UUID uuid);
 }
@@ -0,0 +1,35 @@
+package com.connectfood.core.infrastructure.persistence.jpa;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.entity.RefreshTokenEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+  Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+  @Transactional
+  @Modifying
+  @Query("""
+      update RefreshTokenEntity t set t.revokedAt = :now
+      where t.id = :id and t.revokedAt is null and t.expiresAt > :now
+      """)
+  int revokeIfActive(Long id, Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.userUuid = :userUuid and t.revokedAt is null")
+  int revokeAllByUserUuid(UUID userUuid, Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from RefreshTokenEntity t where t.expiresAt < :now")
+  int deleteExpired(Instant now);
+}
@@ -0,0 +1,44 @@
+package com.connectfood.core.infrastructure.persistence.jpa;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.entity.RevokedTokenEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, UUID> {
+
+  @Query(value = """
+      select s.watermark as watermark, t.jti as jti, t.expires_at as expiresAt
+      from (select cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as watermark) s
+      left join core.revoked_token t on t.revoked_xid >= cast(:since as xid8) and t.expires_at > :now
+      """, nativeQuery = true)
+  List<RevokedTokenChange> findRevokedSince(String since, Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(value = """
+      insert into core.revoked_token (jti, expires_at) values (:jti, :expiresAt)
+      on conflict (jti) do nothing
+      """, nativeQuery = true)
+  void insertIfAbsent(UUID jti, Instant expiresAt);
+
+  @Transactional
+  @Modifying
+  @Query("delete from RevokedTokenEntity t where t.expiresAt < :now")
+  int deleteExpired(Instant now);
+
+  interface RevokedTokenChange {
+
+    String getWatermark();
+
+    UUID getJti();
+
+    Instant getExpiresAt();
+  }
+}
@@ -7,14 +7,25 @@ import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface JpaUsersRepository extends JpaRepository<UsersEntity, Long>, JpaSpecificationExecutor<UsersEntity> {
+public interface JpaUsersRepository extends JpaRepository<UsersEntity, Long>, JpaSpecificationExecutor<UsersEntity>,
+    UsersViewRepository {
 
   Optional<UsersEntity> findByUuid(UUID uuid);
 
   Optional<UsersEntity> findByLoginOrEmail(String login, String email);
 
-  void deleteByUuid(UUID uuid);
+  boolean existsByUuid(UUID uuid);
 
-  boolean existsByEmail(String email);
+  @Query("select u.tokenVersion from UsersEntity u where u.uuid = :uuid")
+  Optional<Long> findTokenVersionByUuid(UUID uuid);
+
+  @Transactional
+  @Modifying
+  @Query("update UsersEntity u set u.password = :password, u.version = u.version + 1 "
+      + "where u.uuid = :uuid and u.password = :currentPassword")
+  int updatePasswordByUuid(UUID uuid, String currentPassword, String password);
 }
@@ -0,0 +1,18 @@
+package com.connectfood.core.infrastructure.persistence.jpa;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface UsersViewRepository {
+
+  List<UsersView> findViews(Specification<UsersEntity> spec, Sort sort, long offset, int limit);
+
+  Optional<UsersView> findViewByUuid(UUID uuid);
+}
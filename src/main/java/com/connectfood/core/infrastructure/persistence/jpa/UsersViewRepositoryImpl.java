@@ -0,0 +1,71 @@
+package com.connectfood.core.infrastructure.persistence.jpa;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+
+public class UsersViewRepositoryImpl implements UsersViewRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<UsersView> findViews(Specification<UsersEntity> spec, Sort sort, long offset, int limit) {
+    final var cb = entityManager.getCriteriaBuilder();
+    final var query = cb.createQuery(UsersView.class);
+    final var root = query.from(UsersEntity.class);
+
+    query.select(view(root, cb));
+    final var predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+    return entityManager.createQuery(query)
+        .setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  public Optional<UsersView> findViewByUuid(UUID uuid) {
+    final var cb = entityManager.getCriteriaBuilder();
+    final var query = cb.createQuery(UsersView.class);
+    final var root = query.from(UsersEntity.class);
+
+    query.select(view(root, cb))
+        .where(cb.equal(root.get("uuid"), uuid));
+
+    return entityManager.createQuery(query)
+        .getResultList()
+        .stream()
+        .findFirst();
+  }
+
+  private static CompoundSelection<UsersView> view(Root<UsersEntity> root, CriteriaBuilder cb) {
+    return cb.construct(UsersView.class,
+        root.get("id"),
+        root.get("uuid"),
+        root.get("fullName"),
+        root.get("email"),
+        root.get("login"),
+        root.get("roles"),
+        root.get("createdAt"),
+        root.get("updatedAt"),
+        root.get("version"));
+  }
+}
@@ -2,7 +2,6 @@ package com.connectfood.core.infrastructure.persistence.mapper;
 
 import com.connectfood.core.domain.model.Address;
 import com.connectfood.core.infrastructure.persistence.entity.AddressEntity;
-import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
 
 import org.springframework.stereotype.Component;
 
@@ -29,20 +28,4 @@ public class AddressInfrastructureMapper {
         .version(entity.getVersion())
         .build();
   }
-
-  public AddressEntity toEntity(Address address, UsersEntity userEntity) {
-    return AddressEntity.builder()
-        .user(userEntity)
-        .street(address.getStreet())
-        .number(address.getNumber())
-        .complement(address.getComplement())
-        .neighborhood(address.getNeighborhood())
-        .city(address.getCity())
-        .state(address.getState())
-        .zipCode(address.getZipCode())
-        .country(address.getCountry())
-        .addressType(address.getAddressType())
-        .isDefault(address.getIsDefault())
-        .build();
-  }
 }
@@ -1,5 +1,7 @@
 package com.connectfood.core.infrastructure.persistence.mapper;
 
+import java.util.ArrayList;
+
 import com.connectfood.core.domain.model.Users;
 import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
 
@@ -17,42 +19,11 @@ public class UsersInfrastructureMapper {
         .email(entity.getEmail())
         .login(entity.getLogin())
         .password(entity.getPassword())
-        .roles(entity.getRoles())
+        .roles(entity.getRoles() == null ? null : new ArrayList<>(entity.getRoles()))
+        .tokenVersion(entity.getTokenVersion())
         .createdAt(entity.getCreatedAt())
         .updatedAt(entity.getUpdatedAt())
         .version(entity.getVersion())
         .build();
   }
-
-  public UsersEntity toEntity(Users user) {
-    return UsersEntity.builder()
-        .fullName(user.getFullName())
-        .email(user.getEmail())
-        .login(user.getLogin())
-        .password(user.getPassword())
-        .roles(user.getRoles())
-        .build();
-  }
-
-  public UsersEntity toEntity(UsersEntity entity, Users user) {
-    if (user.getFullName() != null) {
-      entity.setFullName(user.getFullName());
-    }
-    if (user.getEmail() != null) {
-      entity.setEmail(user.getEmail());
-    }
-    if (user.getLogin() != null) {
-      entity.setLogin(user.getLogin());
-    }
-    if (!user.getRoles()
-        .isEmpty()) {
-      entity.setRoles(user.getRoles());
-    }
-    return entity;
-  }
-
-  public UsersEntity toEntity(UsersEntity entity, String password) {
-    entity.setPassword(password);
-    return entity;
-  }
 }
@@ -1,21 +1,61 @@
 package com.connectfood.core.infrastructure.persistence.specification;
 
+import java.util.Locale;
+
 import com.connectfood.core.infrastructure.persistence.entity.UsersEntity;
 
 import org.springframework.data.jpa.domain.Specification;
 
 public class UserSpecification {
 
+  public static final char LIKE_ESCAPE = '\\';
+
   private UserSpecification() {
   }
 
   public static Specification<UsersEntity> nameContains(String name) {
+    final var pattern = namePattern(name);
+    if (pattern == null) {
+      return null;
+    }
+
+    return (root, query, cb) -> cb.like(cb.lower(root.get("fullName")), pattern, LIKE_ESCAPE);
+  }
+
+  public static String namePattern(String name) {
     if (name == null || name.isBlank()) {
       return null;
     }
 
-    final String pattern = "%" + name.trim()
-        .toLowerCase() + "%";
-    return (root, query, cb) -> cb.like(cb.lower(root.get("fullName")), pattern);
+    final var term = name.trim()
+        .toLowerCase(Locale.ROOT);
+    final var pattern = new StringBuilder(term.length() + 2).append('%');
+    for (int i = 0; i < term.length(); i++) {
+      final var c = term.charAt(i);
+      if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+        pattern.append(LIKE_ESCAPE);
+      }
+      pattern.append(c);
+    }
+    return pattern.append('%')
+        .toString();
+  }
+
+  public static Specification<UsersEntity> after(UsersCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    return (root, query, cb) -> {
+      final var fullName = root.<String>get("fullName");
+      // The redundant lower bound lets the planner range-scan the keyset index.
+      return cb.and(
+          cb.greaterThanOrEqualTo(fullName, cursor.fullName()),
+          cb.or(
+              cb.greaterThan(fullName, cursor.fullName()),
+              cb.greaterThan(root.get("id"), cursor.id())
+          )
+      );
+    };
   }
 }
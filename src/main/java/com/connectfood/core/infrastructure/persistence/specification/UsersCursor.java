@@ -0,0 +1,33 @@
+package com.connectfood.core.infrastructure.persistence.specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.connectfood.core.domain.exception.BadRequestException;
+import com.connectfood.core.domain.model.UsersView;
+
+public record UsersCursor(String fullName, long id) {
+
+  private static final char SEPARATOR = ':';
+
+  public static UsersCursor of(UsersView user) {
+    return new UsersCursor(user.fullName(), user.id());
+  }
+
+  public static UsersCursor decode(String cursor) {
+    try {
+      final var value = new String(Base64.getUrlDecoder()
+          .decode(cursor), StandardCharsets.UTF_8);
+      final var separator = value.indexOf(SEPARATOR);
+      return new UsersCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((id + String.valueOf(SEPARATOR) + fullName).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,20 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import lombok.Getter;
+
+@Getter
+public class AuthenticatedUser extends User {
+
+  private final String uuid;
+
+  public AuthenticatedUser(String uuid, String username, String password,
+      Collection<? extends GrantedAuthority> authorities) {
+    super(username, password, authorities);
+    this.uuid = uuid;
+  }
+}
@@ -1,26 +1,51 @@
 package com.connectfood.core.infrastructure.security;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import com.connectfood.core.domain.enums.UsersRole;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtService jwtService;
   private final org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
+  private final TokenVersionCache tokenVersionCache;
+  private final RevokedTokenRegistry revokedTokens;
+  private final boolean stateless;
+
+  public JwtAuthenticationFilter(
+      JwtService jwtService,
+      org.springframework.security.core.userdetails.UserDetailsService userDetailsService,
+      TokenVersionCache tokenVersionCache,
+      RevokedTokenRegistry revokedTokens,
+      @Value("${security.jwt.stateless:false}") boolean stateless
+  ) {
+    this.jwtService = jwtService;
+    this.userDetailsService = userDetailsService;
+    this.tokenVersionCache = tokenVersionCache;
+    this.revokedTokens = revokedTokens;
+    this.stateless = stateless;
+  }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request,
@@ -39,20 +64,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     String token = resolveBearerToken(request);
-    if (token != null && jwtService.validate(token)) {
-      String username = jwtService.getSubject(token);
-      var userDetails = userDetailsService.loadUserByUsername(username);
-
-      var auth = new UsernamePasswordAuthenticationToken(
-          userDetails, null, userDetails.getAuthorities());
-      auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-      SecurityContextHolder.getContext()
-          .setAuthentication(auth);
+    if (token != null) {
+      jwtService.verify(token)
+          .filter(claims -> !revokedTokens.isRevoked(claims.getId()))
+          .ifPresent(claims -> authenticate(request, claims));
     }
 
     filterChain.doFilter(request, response);
   }
 
+  private void authenticate(HttpServletRequest request, Claims claims) {
+    var userDetails = stateless ? fromClaims(claims) : fromDatabase(claims);
+    if (userDetails == null) {
+      return;
+    }
+
+    var auth = new UsernamePasswordAuthenticationToken(
+        userDetails, null, userDetails.getAuthorities());
+    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    SecurityContextHolder.getContext()
+        .setAuthentication(auth);
+  }
+
+  @Nullable
+  private UserDetails fromDatabase(Claims claims) {
+    try {
+      return userDetailsService.loadUserByUsername(claims.getSubject());
+    } catch (UsernameNotFoundException e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private UserDetails fromClaims(Claims claims) {
+    final var compactUuid = claims.get("uid", String.class);
+    final var uuid = compactUuid != null ? compactUuid : claims.get("uuid", String.class);
+    final var tokenVersion = claims.get("tv", Long.class);
+    if (!tokenVersionCache.isCurrent(uuid, tokenVersion)) {
+      return null;
+    }
+
+    final var roleMask = claims.get("r", Integer.class);
+    final List<?> roles = roleMask != null ? UsersRole.fromMask(roleMask) : claims.get("roles", List.class);
+    return new AuthenticatedUser(uuid, claims.getSubject(), "", authorities(roles));
+  }
+
+  private Collection<SimpleGrantedAuthority> authorities(@Nullable List<?> roles) {
+    if (roles == null) {
+      return List.of();
+    }
+    return roles.stream()
+        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+        .collect(Collectors.toSet());
+  }
+
   @Nullable
   private String resolveBearerToken(HttpServletRequest request) {
     String header = request.getHeader("Authorization");
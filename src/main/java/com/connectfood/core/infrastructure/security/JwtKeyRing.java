@@ -0,0 +1,267 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class JwtKeyRing implements Locator<Key> {
+
+  public static final String HS256 = "HS256";
+  public static final String ES256 = "ES256";
+  public static final String EDDSA = "EdDSA";
+
+  private static final String PEM_EXTENSION = ".pem";
+
+  private final SecretKey secretKey;
+  private final boolean acceptHmac;
+  private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+  @Nullable
+  private final PrivateKey signingKey;
+  @Nullable
+  private final SignatureAlgorithm signingAlgorithm;
+  @Nullable
+  @Getter
+  private final String activeKeyId;
+  @Getter
+  private final List<Map<String, Object>> publicJwks;
+  @Getter
+  private final String jwksEtag;
+
+  public JwtKeyRing(
+      @Value("${security.jwt.secret}") String secret,
+      @Value("${security.jwt.signing.algorithm:HS256}") String algorithm,
+      @Value("${security.jwt.signing.key-directory:}") String keyDirectory,
+      @Value("${security.jwt.signing.active-key-id:}") String activeKeyId,
+      @Value("${security.jwt.signing.accept-hmac:#{null}}") @Nullable Boolean acceptHmac
+  ) {
+    this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.acceptHmac = acceptHmac != null ? acceptHmac : HS256.equalsIgnoreCase(algorithm);
+
+    final var privateKeys = new LinkedHashMap<String, PrivateKey>();
+    if (!keyDirectory.isBlank()) {
+      loadDirectory(Path.of(keyDirectory), privateKeys);
+    }
+
+    if (HS256.equalsIgnoreCase(algorithm)) {
+      if (!this.acceptHmac) {
+        throw new IllegalStateException("HS256 signing requires security.jwt.signing.accept-hmac");
+      }
+      this.signingAlgorithm = null;
+      this.signingKey = null;
+      this.activeKeyId = null;
+    } else {
+      this.signingAlgorithm = signatureAlgorithm(algorithm);
+      if (activeKeyId.isBlank()) {
+        final var generated = generate(algorithm);
+        final var kid = thumbprint(generated.getPublic());
+        log.warn("No JWT signing key configured; generated ephemeral {} key {}. "
+            + "Tokens will not survive a restart or be accepted by other instances.", algorithm, kid);
+        verificationKeys.put(kid, generated.getPublic());
+        privateKeys.put(kid, generated.getPrivate());
+        this.activeKeyId = kid;
+      } else {
+        this.activeKeyId = activeKeyId;
+      }
+      this.signingKey = privateKeys.get(this.activeKeyId);
+      if (signingKey == null) {
+        throw new IllegalStateException("No private key found for active JWT key id " + this.activeKeyId);
+      }
+      if (!algorithm(signingKey).equals(signingAlgorithm.getId())) {
+        throw new IllegalStateException(
+            "Active JWT key " + this.activeKeyId + " is not a " + signingAlgorithm.getId() + " key");
+      }
+    }
+
+    this.publicJwks = toJwks(verificationKeys);
+    this.jwksEtag = etag(publicJwks);
+  }
+
+  public boolean isAsymmetric() {
+    return signingKey != null;
+  }
+
+  public Key getSigningKey() {
+    return signingKey != null ? signingKey : secretKey;
+  }
+
+  @Nullable
+  public SignatureAlgorithm getSigningAlgorithm() {
+    return signingAlgorithm;
+  }
+
+  @Override
+  public Key locate(Header header) {
+    final var keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+    if (keyId == null) {
+      if (!acceptHmac) {
+        throw new JwtException("JWT without key id");
+      }
+      return secretKey;
+    }
+    final var key = verificationKeys.get(keyId);
+    if (key == null) {
+      throw new JwtException("Unknown JWT key id " + keyId);
+    }
+    return key;
+  }
+
+  private void loadDirectory(Path directory, Map<String, PrivateKey> privateKeys) {
+    try (var files = Files.list(directory)) {
+      for (Path file : files.filter(path -> path.getFileName()
+              .toString()
+              .endsWith(PEM_EXTENSION))
+          .sorted()
+          .toList()) {
+        final var name = file.getFileName()
+            .toString();
+        final var kid = name.substring(0, name.length() - PEM_EXTENSION.length());
+        final var pem = Files.readString(file, StandardCharsets.US_ASCII);
+
+        if (pem.contains("PRIVATE KEY")) {
+          final var privateKey = parsePrivateKey(pem);
+          final PrivateJwk<?, ?, ?> jwk = (PrivateJwk<?, ?, ?>) Jwks.builder()
+              .key(privateKey)
+              .build();
+          privateKeys.put(kid, privateKey);
+          verificationKeys.put(kid, (PublicKey) jwk.toPublicJwk()
+              .toKey());
+        } else {
+          verificationKeys.put(kid, parsePublicKey(pem));
+        }
+      }
+    } catch (IOException | GeneralSecurityException e) {
+      throw new IllegalStateException("Could not load JWT keys from " + directory, e);
+    }
+    log.info("Loaded JWT verification keys {}", verificationKeys.keySet());
+  }
+
+  private static PrivateKey parsePrivateKey(String pem) throws GeneralSecurityException {
+    final var spec = new PKCS8EncodedKeySpec(decodePem(pem));
+    try {
+      return KeyFactory.getInstance("EC")
+          .generatePrivate(spec);
+    } catch (GeneralSecurityException e) {
+      return KeyFactory.getInstance("Ed25519")
+          .generatePrivate(spec);
+    }
+  }
+
+  private static PublicKey parsePublicKey(String pem) throws GeneralSecurityException {
+    final var spec = new X509EncodedKeySpec(decodePem(pem));
+    try {
+      return KeyFactory.getInstance("EC")
+          .generatePublic(spec);
+    } catch (GeneralSecurityException e) {
+      return KeyFactory.getInstance("Ed25519")
+          .generatePublic(spec);
+    }
+  }
+
+  private static byte[] decodePem(String pem) {
+    return Base64.getMimeDecoder()
+        .decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+  }
+
+  private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+    return switch (algorithm.toUpperCase(Locale.ROOT)) {
+      case "ES256" -> Jwts.SIG.ES256;
+      case "EDDSA" -> Jwts.SIG.EdDSA;
+      default -> throw new IllegalStateException("Unsupported JWT signing algorithm " + algorithm);
+    };
+  }
+
+  private static String algorithm(Key key) {
+    return key instanceof ECKey ? ES256 : EDDSA;
+  }
+
+  private static KeyPair generate(String algorithm) {
+    try {
+      if (ES256.equalsIgnoreCase(algorithm)) {
+        final var generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+      }
+      return KeyPairGenerator.getInstance("Ed25519")
+          .generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Could not generate JWT signing key", e);
+    }
+  }
+
+  private static String thumbprint(PublicKey key) {
+    return Jwks.builder()
+        .key(key)
+        .build()
+        .thumbprint()
+        .toString();
+  }
+
+  private static List<Map<String, Object>> toJwks(Map<String, PublicKey> keys) {
+    final var jwks = new ArrayList<Map<String, Object>>();
+    keys.forEach((kid, key) -> {
+      final var jwk = new LinkedHashMap<String, Object>(Jwks.builder()
+          .key(key)
+          .build());
+      jwk.put("kid", kid);
+      jwk.put("use", "sig");
+      jwk.put("alg", algorithm(key));
+      jwks.add(Collections.unmodifiableMap(jwk));
+    });
+    return Collections.unmodifiableList(jwks);
+  }
+
+  private static String etag(List<Map<String, Object>> jwks) {
+    try {
+      final var json = new ObjectMapper().writeValueAsBytes(jwks);
+      return HexFormat.of()
+          .formatHex(MessageDigest.getInstance("SHA-256")
+              .digest(json), 0, 16);
+    } catch (JsonProcessingException | GeneralSecurityException e) {
+      throw new IllegalStateException("Could not compute JWKS ETag", e);
+    }
+  }
+}
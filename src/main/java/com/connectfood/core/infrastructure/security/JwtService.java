@@ -1,67 +1,129 @@
 package com.connectfood.core.infrastructure.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
-import javax.crypto.SecretKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
 
-  private final SecretKey key;
+  private final JwtKeyRing keyRing;
   private final long expirationSeconds;
+  private final JwtParser parser;
+  private final Cache<String, Claims> verifiedTokens;
 
   public JwtService(
-      @Value("${security.jwt.secret}") String secret,
-      @Value("${security.jwt.expiration-seconds}") long expirationSeconds
+      JwtKeyRing keyRing,
+      @Value("${security.jwt.expiration-seconds}") long expirationSeconds,
+      @Value("${security.jwt.cache.max-size:10000}") long cacheMaxSize
   ) {
-    this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.keyRing = keyRing;
     this.expirationSeconds = expirationSeconds;
+    this.parser = Jwts.parser()
+        .keyLocator(keyRing)
+        .build();
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfter(new ExpireAtTokenExpiration())
+        .build();
   }
 
   public String generate(String subject, Map<String, Object> claims) {
     final var now = Instant.now();
     final var expiration = now.plusSeconds(expirationSeconds);
 
-    return Jwts.builder()
+    final var builder = Jwts.builder()
+        .id(UUID.randomUUID()
+            .toString())
         .subject(subject)
         .issuedAt(Date.from(now))
         .expiration(Date.from(expiration))
-        .claims(claims)
-        .signWith(key)
-        .compact();
-  }
+        .claims(claims);
 
-  public boolean validate(String token) {
-    try {
-      Jwts.parser()
-          .verifyWith(key)
-          .build()
-          .parseSignedClaims(token);
-      return true;
-    } catch (Exception e) {
-      return false;
+    if (keyRing.isAsymmetric()) {
+      builder.header()
+          .keyId(keyRing.getActiveKeyId())
+          .and()
+          .signWith((PrivateKey) keyRing.getSigningKey(), keyRing.getSigningAlgorithm());
+    } else {
+      builder.signWith(keyRing.getSigningKey());
     }
+    return builder.compact();
   }
 
-  public String getSubject(String token) {
-    return Jwts.parser()
-        .verifyWith(key)
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .getSubject();
+  public Optional<Claims> verify(String token) {
+    final var digest = digest(token);
+    final var cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    try {
+      final var claims = parser.parseSignedClaims(token)
+          .getPayload();
+      verifiedTokens.put(digest, claims);
+      return Optional.of(claims);
+    } catch (JwtException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
   }
 
   public long getExpiration() {
     return expirationSeconds;
   }
+
+  private static String digest(String token) {
+    try {
+      final var hash = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder()
+          .withoutPadding()
+          .encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+    @Override
+    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+      final var expiration = claims.getExpiration();
+      if (expiration == null) {
+        return 0;
+      }
+      final var remaining = Duration.between(Instant.now(), expiration.toInstant());
+      return Math.max(0, remaining.toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
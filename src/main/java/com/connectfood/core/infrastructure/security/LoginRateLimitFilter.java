@@ -0,0 +1,206 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import com.connectfood.core.domain.factory.ProblemDetailsFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+  private static final String LOGIN_PATH = "/v1/auth/login";
+
+  private final ProblemDetailsFactory factory;
+  private final ObjectMapper mapper;
+  private final boolean enabled;
+  private final int maxBodyBytes;
+  private final TokenBucketLimiter ipLimiter;
+  private final TokenBucketLimiter loginLimiter;
+  private final Counter ipRejections;
+  private final Counter loginRejections;
+
+  public LoginRateLimitFilter(
+      ProblemDetailsFactory factory,
+      ObjectMapper mapper,
+      MeterRegistry meterRegistry,
+      @Value("${security.login-rate-limit.enabled:true}") boolean enabled,
+      @Value("${security.login-rate-limit.stripes:64}") int stripes,
+      @Value("${security.login-rate-limit.max-keys:100000}") int maxKeys,
+      @Value("${security.login-rate-limit.idle-seconds:600}") long idleSeconds,
+      @Value("${security.login-rate-limit.max-body-bytes:4096}") int maxBodyBytes,
+      @Value("${security.login-rate-limit.ip.capacity:20}") double ipCapacity,
+      @Value("${security.login-rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+      @Value("${security.login-rate-limit.login.capacity:5}") double loginCapacity,
+      @Value("${security.login-rate-limit.login.refill-per-minute:5}") double loginRefillPerMinute
+  ) {
+    this.factory = factory;
+    this.mapper = mapper;
+    this.enabled = enabled;
+    this.maxBodyBytes = maxBodyBytes;
+    this.ipLimiter = new TokenBucketLimiter(stripes, maxKeys, ipCapacity, ipRefillPerMinute, idleSeconds);
+    this.loginLimiter = new TokenBucketLimiter(stripes, maxKeys, loginCapacity, loginRefillPerMinute, idleSeconds);
+    this.ipRejections = rejections(meterRegistry, "ip");
+    this.loginRejections = rejections(meterRegistry, "login");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled
+        || !"POST".equals(request.getMethod())
+        || !LOGIN_PATH.equals(request.getRequestURI()
+        .substring(request.getContextPath()
+            .length()));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    final var ipWait = ipLimiter.tryAcquire(request.getRemoteAddr());
+    if (ipWait > 0) {
+      ipRejections.increment();
+      reject(request, response, ipWait);
+      return;
+    }
+
+    final var body = request.getContentLengthLong() > maxBodyBytes ? null : request.getInputStream()
+        .readNBytes(maxBodyBytes + 1);
+    if (body == null || body.length > maxBodyBytes) {
+      write(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Login request body is too large");
+      return;
+    }
+    final var login = readLogin(body);
+    if (login != null) {
+      final var loginWait = loginLimiter.tryAcquire(login);
+      if (loginWait > 0) {
+        loginRejections.increment();
+        reject(request, response, loginWait);
+        return;
+      }
+    }
+
+    filterChain.doFilter(new CachedBodyRequest(request, body), response);
+  }
+
+  @Nullable
+  private String readLogin(byte[] body) {
+    try {
+      final var login = mapper.readTree(body)
+          .path("login");
+      return login.isTextual() ? login.asText()
+          .trim()
+          .toLowerCase(Locale.ROOT) : null;
+    } catch (IOException e) {
+      // Malformed bodies are still throttled by IP and rejected by the controller.
+      return null;
+    }
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+    write(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts, try again later");
+  }
+
+  private void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+      throws IOException {
+    final var body = factory.build(status, message, request.getRequestURI());
+
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    mapper.writeValue(response.getOutputStream(), body);
+  }
+
+  private static Counter rejections(MeterRegistry meterRegistry, String key) {
+    return Counter.builder("security.login.rate-limited")
+        .tag("key", key)
+        .register(meterRegistry);
+  }
+
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      final var input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return input.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            readListener.onDataAvailable();
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
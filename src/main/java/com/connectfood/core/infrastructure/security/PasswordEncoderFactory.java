@@ -0,0 +1,67 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+@Getter
+@Component
+public class PasswordEncoderFactory {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+
+  private final String algorithm;
+  private final int bcryptStrength;
+  private final int argon2SaltLength;
+  private final int argon2HashLength;
+  private final int argon2Parallelism;
+  private final int argon2MemoryKib;
+  private final int argon2Iterations;
+
+  public PasswordEncoderFactory(
+      @Value("${security.password.encoder:bcrypt}") String algorithm,
+      @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+      @Value("${security.password.argon2.salt-length:16}") int argon2SaltLength,
+      @Value("${security.password.argon2.hash-length:32}") int argon2HashLength,
+      @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism,
+      @Value("${security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+      @Value("${security.password.argon2.iterations:2}") int argon2Iterations
+  ) {
+    if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+      throw new IllegalArgumentException("Unsupported security.password.encoder: " + algorithm);
+    }
+    this.algorithm = algorithm;
+    this.bcryptStrength = bcryptStrength;
+    this.argon2SaltLength = argon2SaltLength;
+    this.argon2HashLength = argon2HashLength;
+    this.argon2Parallelism = argon2Parallelism;
+    this.argon2MemoryKib = argon2MemoryKib;
+    this.argon2Iterations = argon2Iterations;
+  }
+
+  public PasswordEncoder create() {
+    final var bcrypt = bcrypt(bcryptStrength);
+    final var encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+        BCRYPT, bcrypt,
+        ARGON2, argon2()));
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return encoder;
+  }
+
+  public PasswordEncoder bcrypt(int strength) {
+    return new BCryptPasswordEncoder(strength);
+  }
+
+  public PasswordEncoder argon2() {
+    return new Argon2PasswordEncoder(argon2SaltLength, argon2HashLength, argon2Parallelism,
+        argon2MemoryKib, argon2Iterations);
+  }
+}
@@ -0,0 +1,79 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.password.calibration.enabled", havingValue = "true")
+public class PasswordHashCalibration implements ApplicationRunner {
+
+  private final PasswordEncoderFactory factory;
+  private final int minCost;
+  private final int maxCost;
+  private final int samples;
+  private final long targetMillis;
+
+  public PasswordHashCalibration(
+      PasswordEncoderFactory factory,
+      @Value("${security.password.calibration.min-cost:8}") int minCost,
+      @Value("${security.password.calibration.max-cost:14}") int maxCost,
+      @Value("${security.password.calibration.samples:5}") int samples,
+      @Value("${security.password.calibration.target-ms:250}") long targetMillis
+  ) {
+    this.factory = factory;
+    this.minCost = minCost;
+    this.maxCost = maxCost;
+    this.samples = Math.max(1, samples);
+    this.targetMillis = targetMillis;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    log.info("Password hash calibration: {} samples per setting, target {} ms", samples, targetMillis);
+
+    Integer recommended = null;
+    for (int cost = minCost; cost <= maxCost; cost++) {
+      final var millis = medianMillis(factory.bcrypt(cost));
+      log.info("  bcrypt cost {}: {} ms", cost, millis);
+      if (millis <= targetMillis) {
+        recommended = cost;
+      }
+    }
+
+    log.info("  argon2 memory {} KiB, iterations {}, parallelism {}: {} ms",
+        factory.getArgon2MemoryKib(), factory.getArgon2Iterations(), factory.getArgon2Parallelism(),
+        medianMillis(factory.argon2()));
+
+    if (recommended != null) {
+      log.info("Highest bcrypt cost within {} ms: {} (configured: {})", targetMillis, recommended,
+          factory.getBcryptStrength());
+    } else {
+      log.warn("No bcrypt cost between {} and {} fits within {} ms", minCost, maxCost, targetMillis);
+    }
+  }
+
+  private long medianMillis(PasswordEncoder encoder) {
+    final var password = UUID.randomUUID()
+        .toString();
+    encoder.encode(password);
+
+    final var timings = new long[samples];
+    for (int i = 0; i < samples; i++) {
+      final var start = System.nanoTime();
+      encoder.encode(password);
+      timings[i] = (System.nanoTime() - start) / 1_000_000;
+    }
+    Arrays.sort(timings);
+    return timings[samples / 2];
+  }
+}
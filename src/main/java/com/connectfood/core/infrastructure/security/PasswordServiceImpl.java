@@ -0,0 +1,173 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.connectfood.core.domain.exception.ServiceUnavailableException;
+import com.connectfood.core.domain.service.PasswordService;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Component
+public class PasswordServiceImpl implements PasswordService, DisposableBean {
+
+  private static final String POOL_NAME = "password-hash";
+  private static final String SATURATED = "Too many concurrent password operations, try again later";
+
+  private final PasswordEncoder encoder;
+  private final ThreadPoolExecutor executor;
+  private final long maxWaitMillis;
+  private final int bulkParallelism;
+  private final String unknownUserPassword;
+
+  private final Timer encodeQueueWait;
+  private final Timer encodeDuration;
+  private final Timer matchesQueueWait;
+  private final Timer matchesDuration;
+  private final Counter rejected;
+
+  public PasswordServiceImpl(
+      PasswordEncoder encoder,
+      MeterRegistry meterRegistry,
+      @Value("${security.password.hashing.threads:0}") int threads,
+      @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+      @Value("${security.password.hashing.max-wait-ms:5000}") long maxWaitMillis,
+      @Value("${security.password.hashing.bulk-parallelism:0}") int bulkParallelism
+  ) {
+    final var poolSize = threads > 0 ? threads : Runtime.getRuntime()
+        .availableProcessors();
+
+    this.encoder = encoder;
+    this.maxWaitMillis = maxWaitMillis;
+    this.bulkParallelism = bulkParallelism > 0 ? Math.min(bulkParallelism, poolSize) : Math.max(1, poolSize - 1);
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(POOL_NAME + "-"),
+        new ThreadPoolExecutor.AbortPolicy());
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, POOL_NAME);
+
+    this.encodeQueueWait = queueWaitTimer(meterRegistry, "encode");
+    this.encodeDuration = durationTimer(meterRegistry, "encode");
+    this.matchesQueueWait = queueWaitTimer(meterRegistry, "matches");
+    this.matchesDuration = durationTimer(meterRegistry, "matches");
+    this.rejected = Counter.builder("password.hash.rejected")
+        .description("Password hashing requests rejected because the hashing pool was saturated")
+        .register(meterRegistry);
+
+    this.unknownUserPassword = encoder.encode(UUID.randomUUID()
+        .toString());
+  }
+
+  @Override
+  public String encode(String password) {
+    return submit(() -> encoder.encode(password), encodeQueueWait, encodeDuration);
+  }
+
+  @Override
+  public List<String> encodeAll(List<String> passwords) {
+    final var hashes = new ArrayList<String>(passwords.size());
+    for (int start = 0; start < passwords.size(); start += bulkParallelism) {
+      final var window = passwords.subList(start, Math.min(start + bulkParallelism, passwords.size()));
+      final var futures = new ArrayList<Future<String>>(window.size());
+      try {
+        for (String password : window) {
+          futures.add(enqueue(() -> encoder.encode(password), encodeQueueWait, encodeDuration));
+        }
+        for (Future<String> future : futures) {
+          hashes.add(await(future));
+        }
+      } catch (RuntimeException e) {
+        futures.forEach(future -> future.cancel(true));
+        throw e;
+      }
+    }
+    return hashes;
+  }
+
+  @Override
+  public boolean matches(String password, String encodedPassword) {
+    final var hash = encodedPassword != null ? encodedPassword : unknownUserPassword;
+    final boolean matches = submit(() -> encoder.matches(password, hash), matchesQueueWait, matchesDuration);
+    return matches && encodedPassword != null;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return encodedPassword != null && encoder.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Callable<T> hashing, Timer queueWait, Timer duration) {
+    return await(enqueue(hashing, queueWait, duration));
+  }
+
+  private <T> Future<T> enqueue(Callable<T> hashing, Timer queueWait, Timer duration) {
+    final var submittedAt = System.nanoTime();
+    final Callable<T> task = () -> {
+      queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+      return duration.recordCallable(hashing);
+    };
+
+    try {
+      return executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new ServiceUnavailableException(SATURATED);
+    }
+  }
+
+  private <T> T await(Future<T> future) {
+    try {
+      return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      throw new ServiceUnavailableException(SATURATED);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread()
+          .interrupt();
+      throw new ServiceUnavailableException("Password operation interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static Timer queueWaitTimer(MeterRegistry meterRegistry, String operation) {
+    return Timer.builder("password.hash.queue.wait")
+        .description("Time a password hashing request waited for a hashing thread")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  private static Timer durationTimer(MeterRegistry meterRegistry, String operation) {
+    return Timer.builder("password.hash.duration")
+        .description("Time spent computing a password hash")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
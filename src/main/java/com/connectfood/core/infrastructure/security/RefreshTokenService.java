@@ -0,0 +1,110 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRefreshTokenRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+  private static final int TOKEN_BYTES = 32;
+
+  private final JpaRefreshTokenRepository repository;
+  private final long expirationSeconds;
+  private final SecureRandom random = new SecureRandom();
+
+  public RefreshTokenService(
+      JpaRefreshTokenRepository repository,
+      @Value("${security.jwt.refresh.expiration-seconds:2592000}") long expirationSeconds
+  ) {
+    this.repository = repository;
+    this.expirationSeconds = expirationSeconds;
+  }
+
+  public String issue(String userUuid, Long tokenVersion) {
+    final var bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    final var token = Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(bytes);
+
+    repository.save(RefreshTokenEntity.builder()
+        .tokenHash(digest(token))
+        .userUuid(UUID.fromString(userUuid))
+        .tokenVersion(tokenVersion)
+        .expiresAt(Instant.now()
+            .plusSeconds(expirationSeconds))
+        .build());
+    return token;
+  }
+
+  public Optional<Grant> consume(String token) {
+    final var now = Instant.now();
+    final var entity = repository.findByTokenHash(digest(token))
+        .orElse(null);
+    if (entity == null || !entity.getExpiresAt()
+        .isAfter(now)) {
+      return Optional.empty();
+    }
+
+    if (entity.getRevokedAt() != null || repository.revokeIfActive(entity.getId(), now) == 0) {
+      log.warn("Refresh token reuse detected for user {}; revoking all refresh tokens", entity.getUserUuid());
+      repository.revokeAllByUserUuid(entity.getUserUuid(), now);
+      return Optional.empty();
+    }
+
+    return Optional.of(new Grant(entity.getUserUuid()
+        .toString(), entity.getTokenVersion()));
+  }
+
+  public boolean revoke(String token) {
+    return repository.findByTokenHash(digest(token))
+        .map(entity -> {
+          repository.revokeIfActive(entity.getId(), Instant.now());
+          return true;
+        })
+        .orElse(false);
+  }
+
+  public long getExpiration() {
+    return expirationSeconds;
+  }
+
+  @Scheduled(fixedDelayString = "${security.jwt.refresh.purge-interval-ms:3600000}",
+      initialDelayString = "${security.jwt.refresh.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    final var purged = repository.deleteExpired(Instant.now());
+    if (purged > 0) {
+      log.debug("Purged {} expired refresh tokens", purged);
+    }
+  }
+
+  private static String digest(String token) {
+    try {
+      return HexFormat.of()
+          .formatHex(MessageDigest.getInstance("SHA-256")
+              .digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  public record Grant(String userUuid, Long tokenVersion) {
+  }
+}
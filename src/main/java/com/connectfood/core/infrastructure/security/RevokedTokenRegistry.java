@@ -0,0 +1,116 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRevokedTokenRepository;
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRevokedTokenRepository.RevokedTokenChange;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements InitializingBean {
+
+  private final JpaRevokedTokenRepository repository;
+  private final int expectedEntries;
+  private final double falsePositiveRate;
+  private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+  private final Object writeLock = new Object();
+
+  private volatile UuidBloomFilter filter;
+  private String watermark = "0";
+
+  public RevokedTokenRegistry(
+      JpaRevokedTokenRepository repository,
+      MeterRegistry meterRegistry,
+      @Value("${security.jwt.revocation.expected-entries:100000}") int expectedEntries,
+      @Value("${security.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate
+  ) {
+    this.repository = repository;
+    this.expectedEntries = expectedEntries;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = new UuidBloomFilter(expectedEntries, falsePositiveRate);
+    Gauge.builder("security.jwt.revoked", revoked, Map::size)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    sync();
+  }
+
+  public boolean isRevoked(@Nullable String jti) {
+    final var id = parse(jti);
+    return id != null && filter.mightContain(id) && revoked.containsKey(id);
+  }
+
+  public void revoke(String jti, Instant expiresAt) {
+    final var id = parse(jti);
+    if (id == null || !expiresAt.isAfter(Instant.now())) {
+      return;
+    }
+    repository.insertIfAbsent(id, expiresAt);
+    add(id, expiresAt);
+  }
+
+  @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval-ms:30000}",
+      initialDelayString = "${security.jwt.revocation.sync-interval-ms:30000}")
+  public void sync() {
+    final var now = Instant.now();
+    final var changes = repository.findRevokedSince(watermark, now);
+
+    for (RevokedTokenChange change : changes) {
+      if (change.getJti() != null) {
+        add(change.getJti(), change.getExpiresAt());
+      }
+    }
+    watermark = changes.getFirst()
+        .getWatermark();
+
+    if (revoked.values()
+        .removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+      rebuildFilter();
+    }
+    repository.deleteExpired(now);
+  }
+
+  private void add(UUID jti, Instant expiresAt) {
+    synchronized (writeLock) {
+      revoked.put(jti, expiresAt);
+      filter.add(jti);
+    }
+  }
+
+  private void rebuildFilter() {
+    synchronized (writeLock) {
+      final var rebuilt = new UuidBloomFilter(Math.max(expectedEntries, revoked.size()), falsePositiveRate);
+      revoked.keySet()
+          .forEach(rebuilt::add);
+      filter = rebuilt;
+    }
+    log.debug("Rebuilt revoked token filter with {} entries", revoked.size());
+  }
+
+  @Nullable
+  private static UUID parse(@Nullable String jti) {
+    if (jti == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(jti);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class TokenBucketLimiter {
+
+  private final Stripe[] stripes;
+  private final double capacity;
+  private final double tokensPerNano;
+  private final long idleNanos;
+  private final LongSupplier clock;
+
+  public TokenBucketLimiter(int stripes, int maxKeys, double capacity, double refillPerMinute,
+      long idleSeconds) {
+    this(stripes, maxKeys, capacity, refillPerMinute, idleSeconds, System::nanoTime);
+  }
+
+  TokenBucketLimiter(int stripes, int maxKeys, double capacity, double refillPerMinute, long idleSeconds,
+      LongSupplier clock) {
+    final var stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    final var keysPerStripe = Math.max(1, maxKeys / stripeCount);
+
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripes[i] = new Stripe(keysPerStripe);
+    }
+    this.capacity = capacity;
+    this.tokensPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+    this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+    this.clock = clock;
+  }
+
+  public long tryAcquire(String key) {
+    final var now = clock.getAsLong();
+    final var stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+
+    stripe.lock.lock();
+    try {
+      stripe.evictIdle(now, idleNanos);
+
+      var bucket = stripe.buckets.get(key);
+      if (bucket == null) {
+        bucket = new Bucket(capacity, now);
+        stripe.buckets.put(key, bucket);
+      } else {
+        bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * tokensPerNano);
+        bucket.updatedAt = now;
+      }
+
+      if (bucket.tokens >= 1) {
+        bucket.tokens -= 1;
+        return 0;
+      }
+      return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Bucket {
+
+    private double tokens;
+    private long updatedAt;
+
+    private Bucket(double tokens, long updatedAt) {
+      this.tokens = tokens;
+      this.updatedAt = updatedAt;
+    }
+  }
+
+  private static final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Bucket> buckets;
+
+    private Stripe(int maxKeys) {
+      this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+          return size() > maxKeys;
+        }
+      };
+    }
+
+    private void evictIdle(long now, long idleNanos) {
+      final var iterator = buckets.values()
+          .iterator();
+      while (iterator.hasNext()) {
+        if (now - iterator.next().updatedAt < idleNanos) {
+          return;
+        }
+        iterator.remove();
+      }
+    }
+  }
+}
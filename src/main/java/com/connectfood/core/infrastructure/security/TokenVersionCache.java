@@ -0,0 +1,62 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.event.UsersChangedEvent;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangesMissedEvent;
+import com.connectfood.core.infrastructure.persistence.jpa.JpaUsersRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class TokenVersionCache {
+
+  private static final long UNKNOWN_USER = -1L;
+
+  private final JpaUsersRepository usersRepository;
+  private final LoadingCache<String, Long> versions;
+
+  public TokenVersionCache(
+      JpaUsersRepository usersRepository,
+      @Value("${security.jwt.token-version-cache.max-size:10000}") long maxSize,
+      @Value("${security.jwt.token-version-cache.ttl-seconds:60}") long ttlSeconds
+  ) {
+    this.usersRepository = usersRepository;
+    this.versions = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build(this::load);
+  }
+
+  public boolean isCurrent(String uuid, Long tokenVersion) {
+    if (uuid == null || tokenVersion == null) {
+      return false;
+    }
+    return tokenVersion.equals(versions.get(uuid));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUsersChanged(UsersChangedEvent event) {
+    versions.invalidate(event.uuid());
+  }
+
+  @EventListener
+  public void onUsersChangesMissed(UsersChangesMissedEvent event) {
+    versions.invalidateAll();
+  }
+
+  private Long load(String uuid) {
+    try {
+      return usersRepository.findTokenVersionByUuid(UUID.fromString(uuid))
+          .orElse(UNKNOWN_USER);
+    } catch (IllegalArgumentException e) {
+      return UNKNOWN_USER;
+    }
+  }
+}
@@ -1,40 +1,142 @@
 package com.connectfood.core.infrastructure.security;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collectors;
 
-import com.connectfood.core.domain.exception.UnauthorizedException;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangedEvent;
+import com.connectfood.core.infrastructure.persistence.event.UsersChangesMissedEvent;
 import com.connectfood.core.infrastructure.persistence.jpa.JpaUsersRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
-@RequiredArgsConstructor
 public class UserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService {
 
+  private static final int CHANGE_STRIPES = 1024;
+
   private final JpaUsersRepository usersRepository;
+  private final Cache<String, CachedUser> cache;
+  private final Map<String, Set<String>> keysByUuid = new ConcurrentHashMap<>();
+  private final AtomicLong changes = new AtomicLong();
+  private final AtomicLongArray lastChange = new AtomicLongArray(CHANGE_STRIPES);
+
+  public UserDetailsService(
+      JpaUsersRepository usersRepository,
+      MeterRegistry meterRegistry,
+      @Value("${security.user-details-cache.max-size:10000}") long maxSize,
+      @Value("${security.user-details-cache.ttl-seconds:300}") long ttlSeconds
+  ) {
+    this.usersRepository = usersRepository;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .evictionListener((String key, CachedUser user, RemovalCause cause) -> unindex(key, user))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.user-details");
+  }
 
   @Override
   public UserDetails loadUserByUsername(String username) {
+    final var key = normalize(username);
+    var user = cache.getIfPresent(key);
+    if (user == null) {
+      user = loadAndCache(key, username);
+    }
+
+    // Spring Security erases credentials on the returned principal, so each caller gets its own copy.
+    return new AuthenticatedUser(user.uuid(), user.login(), user.password(), user.authorities());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUsersChanged(UsersChangedEvent event) {
+    lastChange.set(stripe(event.uuid()), changes.incrementAndGet());
+    final var keys = keysByUuid.remove(event.uuid());
+    if (keys != null) {
+      cache.invalidateAll(keys);
+    }
+  }
+
+  @EventListener
+  public void onUsersChangesMissed(UsersChangesMissedEvent event) {
+    final var change = changes.incrementAndGet();
+    for (int i = 0; i < CHANGE_STRIPES; i++) {
+      lastChange.set(i, change);
+    }
+    keysByUuid.clear();
+    cache.invalidateAll();
+  }
+
+  private CachedUser loadAndCache(String key, String username) {
+    final var startedAt = changes.get();
+    final var user = load(username);
+    cache.put(key, user);
+    keysByUuid.compute(user.uuid(), (uuid, keys) -> {
+      final var indexed = keys == null ? new HashSet<String>() : keys;
+      indexed.add(key);
+      return indexed;
+    });
+    // Indexed before the check, so a change either is seen here or finds the key in the index.
+    if (lastChange.get(stripe(user.uuid())) > startedAt) {
+      cache.invalidate(key);
+    }
+    return user;
+  }
+
+  private void unindex(String key, CachedUser user) {
+    if (user == null) {
+      return;
+    }
+    keysByUuid.computeIfPresent(user.uuid(), (uuid, keys) -> {
+      keys.remove(key);
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  private CachedUser load(String username) {
     final var user = usersRepository.findByLoginOrEmail(username, username)
-        .orElseThrow(() -> new UnauthorizedException(
-            "Invalid Credentials"));
+        .orElseThrow(() -> new UsernameNotFoundException("Invalid Credentials"));
 
     final var authorities =
         user.getRoles()
             .stream()
             .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-            .collect(Collectors.toSet());
+            .collect(Collectors.<GrantedAuthority>toUnmodifiableSet());
 
-    return User.withUsername(user.getLogin())
-        .password(user.getPassword())
-        .authorities(authorities)
-        .accountLocked(false)
-        .disabled(false)
-        .build();
+    return new CachedUser(user.getUuid()
+        .toString(), user.getLogin(), user.getPassword(), authorities);
+  }
+
+  private static int stripe(String uuid) {
+    final var hash = uuid.hashCode();
+    return (hash ^ (hash >>> 16)) & (CHANGE_STRIPES - 1);
+  }
+
+  private static String normalize(String username) {
+    return username == null ? "" : username.trim()
+        .toLowerCase(Locale.ROOT);
+  }
+
+  private record CachedUser(String uuid, String login, String password, Set<GrantedAuthority> authorities) {
   }
 }
@@ -0,0 +1,47 @@
+package com.connectfood.core.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class UuidBloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  public UuidBloomFilter(int expectedEntries, double falsePositiveRate) {
+    final var entries = Math.max(1, expectedEntries);
+    final var optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    final var words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+  }
+
+  public void add(UUID value) {
+    final var h1 = value.getMostSignificantBits();
+    final var h2 = value.getLeastSignificantBits();
+    for (int i = 0; i < hashCount; i++) {
+      final var bit = Math.floorMod(h1 + i * h2, bitCount);
+      final var word = (int) (bit >>> 6);
+      final var mask = 1L << bit;
+      var current = bits.get(word);
+      while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+        current = bits.get(word);
+      }
+    }
+  }
+
+  public boolean mightContain(UUID value) {
+    final var h1 = value.getMostSignificantBits();
+    final var h2 = value.getLeastSignificantBits();
+    for (int i = 0; i < hashCount; i++) {
+      final var bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,7 @@
+-- Revocations are synced by the id of the transaction that recorded them, compared with the xmin of
+-- the reading snapshot, so a slow or late commit is still picked up on the next sync.
+ALTER TABLE core.revoked_token
+  ADD COLUMN IF NOT EXISTS revoked_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP INDEX IF EXISTS core.idx_revoked_token_revoked_at;
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_xid ON core.revoked_token(revoked_xid);
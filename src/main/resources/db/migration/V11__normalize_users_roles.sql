@@ -0,0 +1,12 @@
+-- Roles are stored as the UsersRole constant names, so authorities do not depend on how a role was
+-- spelled when it was written.
+UPDATE core.users u
+SET roles = (SELECT jsonb_agg(d.value ORDER BY d.ord)
+             FROM (SELECT upper(r.value) AS value, min(r.ord) AS ord
+                   FROM jsonb_array_elements_text(u.roles) WITH ORDINALITY AS r(value, ord)
+                   GROUP BY upper(r.value)) d),
+    version = u.version + 1
+WHERE jsonb_array_length(u.roles) > 0
+  AND (u.roles::text <> upper(u.roles::text)
+    OR jsonb_array_length(u.roles) > (SELECT count(DISTINCT upper(r.value))
+                                      FROM jsonb_array_elements_text(u.roles) AS r(value)));
@@ -0,0 +1,2 @@
+ALTER TABLE core.users
+  ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS core.refresh_token (
+  id             BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  token_hash     VARCHAR(64)  NOT NULL,
+  user_uuid      UUID         NOT NULL REFERENCES core.users(uuid) ON DELETE CASCADE,
+  token_version  INTEGER      NOT NULL,
+  expires_at     TIMESTAMPTZ  NOT NULL,
+  revoked_at     TIMESTAMPTZ,
+  created_at     TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+ALTER TABLE core.refresh_token
+  ADD CONSTRAINT uq_refresh_token_hash UNIQUE (token_hash);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_uuid  ON core.refresh_token(user_uuid);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON core.refresh_token(expires_at);
+
+
+CREATE TABLE IF NOT EXISTS core.revoked_token (
+  jti         UUID         PRIMARY KEY,
+  expires_at  TIMESTAMPTZ  NOT NULL,
+  revoked_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON core.revoked_token(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON core.revoked_token(revoked_at);
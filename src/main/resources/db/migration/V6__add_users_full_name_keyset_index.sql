@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_users_full_name_id ON core.users(full_name, id);
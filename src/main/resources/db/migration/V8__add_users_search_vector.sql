@@ -0,0 +1,23 @@
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'portuguese_unaccent'
+                 AND cfgnamespace = 'core'::regnamespace) THEN
+    CREATE TEXT SEARCH CONFIGURATION core.portuguese_unaccent (COPY = pg_catalog.portuguese);
+    ALTER TEXT SEARCH CONFIGURATION core.portuguese_unaccent
+      ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+    ALTER TEXT SEARCH CONFIGURATION core.portuguese_unaccent
+      ALTER MAPPING FOR asciihword, asciiword, hword_asciipart WITH portuguese_stem;
+  END IF;
+END $$;
+
+-- Email and login are split on their separators so each part can be searched on its own.
+ALTER TABLE core.users
+  ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('core.portuguese_unaccent', full_name), 'A') ||
+    setweight(to_tsvector('core.portuguese_unaccent', regexp_replace(login::text, '[@._+-]+', ' ', 'g')), 'B') ||
+    setweight(to_tsvector('core.portuguese_unaccent', regexp_replace(email::text, '[@._+-]+', ' ', 'g')), 'C')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_vector ON core.users USING GIN (search_vector);
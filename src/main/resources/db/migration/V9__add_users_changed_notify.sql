@@ -0,0 +1,18 @@
+-- Announces every change to a user row on the core_users_changed channel, so application nodes can
+-- drop their cached copy. The payload is "<uuid>:<version>" after an update and "<uuid>" after a
+-- delete.
+CREATE OR REPLACE FUNCTION core.notify_users_changed() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    PERFORM pg_notify('core_users_changed', OLD.uuid::text);
+  ELSE
+    PERFORM pg_notify('core_users_changed', NEW.uuid::text || ':' || NEW.version);
+  END IF;
+  RETURN NULL;
+END $$;
+
+DROP TRIGGER IF EXISTS trg_users_changed_notify ON core.users;
+CREATE TRIGGER trg_users_changed_notify
+  AFTER UPDATE OR DELETE ON core.users
+  FOR EACH ROW EXECUTE FUNCTION core.notify_users_changed();
@@ -0,0 +1,71 @@
+package com.connectfood.core.application.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.infrastructure.security.JwtKeyRing;
+import com.connectfood.core.infrastructure.security.JwtService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+// ./mvnw test -Dtest=ClaimsProfileBenchmarkTest -Dbenchmark=true [-Dbenchmark.iterations=1000000]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ClaimsProfileBenchmarkTest {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 1_000_000);
+  private static final int WARM_UP = Math.max(ITERATIONS / 5, 1);
+
+  private final JwtKeyRing keyRing = new JwtKeyRing(SECRET, "HS256", "", "", null);
+  private final JwtService jwtService = new JwtService(keyRing, 3600, 100);
+  private final JwtParser parser = Jwts.parser()
+      .keyLocator(keyRing)
+      .build();
+
+  private final Users user = Users.builder()
+      .uuid(UUID.randomUUID()
+          .toString())
+      .fullName("Professor Fiap")
+      .email("professor.fiap@qa.exemplo.com")
+      .login("professor.fiap")
+      .roles(List.of("OWNER"))
+      .tokenVersion(0L)
+      .build();
+
+  @Test
+  void compactTokensAreSmallerAndParseFaster() {
+    final var full = jwtService.generate(user.getLogin(), new AuthenticationMapper("full").toClaims(user));
+    final var compact = jwtService.generate(user.getLogin(), new AuthenticationMapper("compact").toClaims(user));
+
+    parse(full, WARM_UP);
+    parse(compact, WARM_UP);
+    final var fullMicros = parse(full, ITERATIONS);
+    final var compactMicros = parse(compact, ITERATIONS);
+
+    System.out.printf("profile   token size   parse+verify (%d ops)%n", ITERATIONS);
+    System.out.printf("full      %4d bytes   %.2f us/op%n", full.length(), fullMicros);
+    System.out.printf("compact   %4d bytes   %.2f us/op%n", compact.length(), compactMicros);
+
+    assertThat(compact.length()).isLessThan(full.length());
+  }
+
+  private double parse(String token, int iterations) {
+    var claims = 0L;
+    final var start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      claims += parser.parseSignedClaims(token)
+          .getPayload()
+          .size();
+    }
+    final var elapsed = System.nanoTime() - start;
+    assertThat(claims).isPositive();
+    return elapsed / 1_000.0 / iterations;
+  }
+}
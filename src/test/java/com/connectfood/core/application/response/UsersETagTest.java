@@ -0,0 +1,84 @@
+package com.connectfood.core.application.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.domain.exception.PreconditionFailedException;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.commons.PageModel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class UsersETagTest {
+
+  private static final UUID UUID_VALUE = UUID.fromString("8f1b3b3a-9f2d-4e5e-9d2a-123456789abc");
+
+  @Test
+  void readsTheVersionOfItsOwnTag() {
+    final var tag = UsersETag.of(user(UUID_VALUE, 7L));
+
+    assertThat(tag).isEqualTo("W/\"8f1b3b3a-9f2d-4e5e-9d2a-123456789abc-7\"");
+    assertThat(UsersETag.version(tag, UUID_VALUE.toString())).isEqualTo(7L);
+  }
+
+  @Test
+  void acceptsStrongFormsAndAnyCaseOfTheUuid() {
+    final var tag = "\"" + UUID_VALUE.toString()
+        .toUpperCase() + "-3\"";
+
+    assertThat(UsersETag.version(tag, UUID_VALUE.toString())).isEqualTo(3L);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {" ", "*", " * "})
+  void treatsMissingAndWildcardTagsAsUnconditional(String ifMatch) {
+    assertThat(UsersETag.version(ifMatch, UUID_VALUE.toString())).isNull();
+  }
+
+  @Test
+  void rejectsTagsOfAnotherUser() {
+    final var foreign = UsersETag.of(user(UUID.randomUUID(), 7L));
+
+    assertThatThrownBy(() -> UsersETag.version(foreign, UUID_VALUE.toString()))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"7", "\"\"", "W/\"\"", "\"8f1b3b3a-9f2d-4e5e-9d2a-123456789abc\"",
+      "\"8f1b3b3a-9f2d-4e5e-9d2a-123456789abc-x\"", "8f1b3b3a-9f2d-4e5e-9d2a-123456789abc-7",
+      "\"8f1b3b3a-9f2d-4e5e-9d2a-123456789abc-7"})
+  void rejectsMalformedTags(String ifMatch) {
+    assertThatThrownBy(() -> UsersETag.version(ifMatch, UUID_VALUE.toString()))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void changesWhenAnyUserOfAPageChanges() {
+    final var other = UUID.randomUUID();
+
+    final var before = UsersETag.of(page(user(UUID_VALUE, 1L), user(other, 1L)));
+    final var after = UsersETag.of(page(user(UUID_VALUE, 1L), user(other, 2L)));
+
+    assertThat(before).isEqualTo(UsersETag.of(page(user(UUID_VALUE, 1L), user(other, 1L))))
+        .isNotEqualTo(after)
+        .startsWith("W/\"");
+  }
+
+  private static PageModel<List<UsersView>> page(UsersView... users) {
+    return new PageModel<>(List.of(users), (long) users.length, null,
+        null, false);
+  }
+
+  private static UsersView user(UUID uuid, Long version) {
+    return new UsersView(1L, uuid, "Ana", "ana@example.com", "ana", List.of("CUSTOMER"), LocalDateTime.now(),
+        LocalDateTime.now(), version);
+  }
+}
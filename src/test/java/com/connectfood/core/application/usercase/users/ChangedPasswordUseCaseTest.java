@@ -0,0 +1,80 @@
+package com.connectfood.core.application.usercase.users;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import com.connectfood.core.domain.exception.PreconditionFailedException;
+import com.connectfood.core.domain.exception.VersionConflictException;
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.service.PasswordService;
+import com.connectfood.core.domain.service.UsersService;
+import com.connectfood.model.ChangePasswordRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChangedPasswordUseCaseTest {
+
+  private static final String UUID_VALUE = "8f1b3b3a-9f2d-4e5e-9d2a-123456789abc";
+
+  private final UsersService service = mock(UsersService.class);
+  private final PasswordService passwordService = mock(PasswordService.class);
+  private final ChangedPasswordUseCase useCase = new ChangedPasswordUseCase(service, passwordService);
+  private final ChangePasswordRequest request = new ChangePasswordRequest().currentPassword("current")
+      .newPassword("new-password");
+
+  @BeforeEach
+  void setUp() {
+    when(service.findByUuid(UUID_VALUE)).thenReturn(Optional.of(Users.builder()
+        .uuid(UUID_VALUE)
+        .password("hash")
+        .version(5L)
+        .build()));
+    when(passwordService.matches("current", "hash")).thenReturn(true);
+    when(passwordService.encode("new-password")).thenReturn("new-hash");
+  }
+
+  @Test
+  void rejectsAStaleTagBeforeHashing() {
+    assertThatThrownBy(() -> useCase.execute(UUID_VALUE, "W/\"" + UUID_VALUE + "-4\"", request))
+        .isInstanceOf(PreconditionFailedException.class);
+
+    verify(passwordService, never()).encode(anyString());
+    verify(service, never()).changedPassword(anyString(), anyLong(), anyString());
+  }
+
+  @Test
+  void reportsAConcurrentChangeAsPreconditionFailedWhenATagWasSent() {
+    doThrow(new VersionConflictException("changed")).when(service)
+        .changedPassword(UUID_VALUE, 5L, "new-hash");
+
+    assertThatThrownBy(() -> useCase.execute(UUID_VALUE, "W/\"" + UUID_VALUE + "-5\"", request))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void reportsAConcurrentChangeAsConflictWithoutATag() {
+    doThrow(new VersionConflictException("changed")).when(service)
+        .changedPassword(UUID_VALUE, 5L, "new-hash");
+
+    assertThatThrownBy(() -> useCase.execute(UUID_VALUE, null, request))
+        .isInstanceOf(VersionConflictException.class);
+  }
+
+  @Test
+  void changesThePasswordOnAMatchingTag() {
+    useCase.execute(UUID_VALUE, "W/\"" + UUID_VALUE + "-5\"", request);
+
+    verify(service).changedPassword(UUID_VALUE, 5L, "new-hash");
+    verify(passwordService).encode(any());
+  }
+}
@@ -0,0 +1,141 @@
+package com.connectfood.core.domain.service.commons;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>(meterRegistry, "lookups", "test");
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void coalescesConcurrentCallsForTheSameKey() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var executions = new AtomicInteger();
+
+    final var first = CompletableFuture.supplyAsync(() -> singleFlight.execute("ana", () -> {
+      executions.incrementAndGet();
+      started.countDown();
+      await(release);
+      return "value-" + executions.get();
+    }), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    final var second = CompletableFuture.supplyAsync(() -> singleFlight.execute("ana", () -> {
+      executions.incrementAndGet();
+      return "own";
+    }), executor);
+    waitUntilCoalesced(1);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void doesNotCoalesceDifferentKeys() {
+    assertThat(singleFlight.execute("ana", () -> "a")).isEqualTo("a");
+    assertThat(singleFlight.execute("joao", () -> "j")).isEqualTo("j");
+    assertThat(counter("executed")).isEqualTo(2);
+  }
+
+  @Test
+  void propagatesTheLookupExceptionToWaiters() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    final var first = CompletableFuture.runAsync(() -> singleFlight.execute("ana", () -> {
+      started.countDown();
+      await(release);
+      throw new IllegalStateException("database down");
+    }), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    final var second = CompletableFuture.runAsync(() -> singleFlight.execute("ana", () -> "own"), executor);
+    waitUntilCoalesced(1);
+    release.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("database down");
+  }
+
+  @Test
+  void startsAFreshLookupForCallersArrivingAfterForget() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    final var first = CompletableFuture.supplyAsync(() -> singleFlight.execute("ana", () -> {
+      started.countDown();
+      await(release);
+      return "before change";
+    }), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    singleFlight.forget("ana");
+
+    assertThat(singleFlight.execute("ana", () -> "after change")).isEqualTo("after change");
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("before change");
+    assertThat(counter("coalesced")).isZero();
+  }
+
+  @Test
+  void forgetsTheKeyOnceTheLookupCompletes() {
+    assertThat(singleFlight.execute("ana", () -> "first")).isEqualTo("first");
+    assertThatThrownBy(() -> singleFlight.execute("ana", () -> {
+      throw new IllegalStateException("failed");
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(singleFlight.execute("ana", () -> "third")).isEqualTo("third");
+
+    assertThat(counter("executed")).isEqualTo(3);
+    assertThat(counter("coalesced")).isZero();
+    assertThat(meterRegistry.get("lookups.in-flight")
+        .gauge()
+        .value()).isZero();
+  }
+
+  private void waitUntilCoalesced(int expected) throws InterruptedException {
+    final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (counter("coalesced") < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(counter("coalesced")).isEqualTo(expected);
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("lookups")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+    }
+  }
+}
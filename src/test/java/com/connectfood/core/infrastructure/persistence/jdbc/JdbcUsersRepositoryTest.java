@@ -0,0 +1,173 @@
+package com.connectfood.core.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.TestcontainersConfiguration;
+import com.connectfood.core.domain.model.Address;
+import com.connectfood.core.domain.model.Users;
+import com.connectfood.core.domain.model.UsersView;
+import com.connectfood.core.domain.model.UsersWithAddresses;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TestcontainersConfiguration.class, JdbcUsersRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcUsersRepositoryTest {
+
+  @Autowired
+  private JdbcUsersRepository repository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Test
+  void appliesEveryMigration() {
+    assertThat(flyway.info()
+        .pending()).isEmpty();
+    assertThat(flyway.info()
+        .current()
+        .getVersion()
+        .getVersion()).isEqualTo("11");
+  }
+
+  @Test
+  void insertsUsersWithTheirAddressesInOneStatement() {
+    final var saved = repository.saveAll(List.of(
+        new UsersWithAddresses(user("ana"), List.of(address("Rua A", true), address("Rua B", false))),
+        new UsersWithAddresses(user("joao"), List.of())));
+
+    assertThat(saved).extracting(created -> created.user()
+            .getLogin())
+        .containsExactly("ana", "joao");
+    assertThat(saved.get(0)
+        .addresses()).extracting(Address::getStreet)
+        .containsExactly("Rua A", "Rua B");
+    assertThat(saved.get(1)
+        .addresses()).isEmpty();
+    assertThat(saved.get(0)
+        .user()
+        .getRoles()).containsExactly("CUSTOMER");
+  }
+
+  @Test
+  void skipsUsersWhoseEmailIsTakenInAnyCase() {
+    repository.saveAll(List.of(new UsersWithAddresses(user("ana"), List.of())));
+    final var duplicate = user("ana2");
+    duplicate.setEmail("ANA@EXAMPLE.COM");
+
+    final var saved = repository.saveAll(List.of(
+        new UsersWithAddresses(duplicate, List.of(address("Rua A", true))),
+        new UsersWithAddresses(user("joao"), List.of(address("Rua C", true)))));
+
+    assertThat(saved).extracting(created -> created.user()
+            .getLogin())
+        .containsExactly("joao");
+    assertThat(saved.get(0)
+        .addresses()).extracting(Address::getStreet)
+        .containsExactly("Rua C");
+  }
+
+  @Test
+  void findsRegisteredEmailsAndLoginsIgnoringCase() {
+    repository.saveAll(List.of(new UsersWithAddresses(user("ana"), List.of())));
+
+    assertThat(repository.findRegisteredEmails(List.of("Ana@Example.com", "nobody@example.com")))
+        .containsExactly("ana@example.com");
+    assertThat(repository.findRegisteredLogins(List.of("ANA", "nobody"))).containsExactly("ana");
+  }
+
+  @Test
+  void findsViewsByUuid() {
+    final var saved = repository.saveAll(List.of(
+        new UsersWithAddresses(user("ana"), List.of()),
+        new UsersWithAddresses(user("joao"), List.of())));
+
+    final var views = repository.findViewsByUuid(List.of(saved.get(0)
+        .user()
+        .getUuid(), UUID.randomUUID()
+        .toString()));
+
+    assertThat(views).extracting(UsersView::login)
+        .containsExactly("ana");
+  }
+
+  @Test
+  void deletesAndReturnsOnlyExistingUuids() {
+    final var saved = repository.saveAll(List.of(new UsersWithAddresses(user("ana"), List.of(address("Rua A", true)))));
+    final var uuid = saved.get(0)
+        .user()
+        .getUuid();
+
+    final var deleted = repository.deleteAllByUuid(List.of(uuid, UUID.randomUUID()
+        .toString()));
+
+    assertThat(deleted).containsExactly(uuid);
+    assertThat(jdbcTemplate.queryForObject("select count(*) from core.address where user_id = ?", Long.class,
+        saved.get(0)
+            .user()
+            .getId())).isZero();
+  }
+
+  @Test
+  void bumpsTheTokenVersionOnlyWhenRolesChange() {
+    final var saved = repository.saveAll(List.of(new UsersWithAddresses(user("ana"), List.of())))
+        .get(0)
+        .user();
+
+    final var renamed = repository.update(saved.getUuid(), saved.getVersion(), Users.builder()
+            .fullName("Ana Maria")
+            .roles(List.of("CUSTOMER"))
+            .build())
+        .orElseThrow();
+    final var promoted = repository.update(saved.getUuid(), renamed.getVersion(), Users.builder()
+            .roles(List.of("OWNER"))
+            .build())
+        .orElseThrow();
+
+    assertThat(renamed.getTokenVersion()).isEqualTo(saved.getTokenVersion());
+    assertThat(promoted.getTokenVersion()).isEqualTo(saved.getTokenVersion() + 1);
+    assertThat(repository.update(saved.getUuid(), saved.getVersion(), Users.builder()
+        .fullName("Stale")
+        .build())).isEmpty();
+  }
+
+  private static Users user(String login) {
+    return Users.builder()
+        .fullName(login)
+        .email(login + "@example.com")
+        .login(login)
+        .password("{noop}secret")
+        .roles(List.of("CUSTOMER"))
+        .build();
+  }
+
+  private static Address address(String street, boolean isDefault) {
+    return Address.builder()
+        .street(street)
+        .number("100")
+        .city("São Paulo")
+        .state("SP")
+        .zipCode("01310-100")
+        .country("Brasil")
+        .isDefault(isDefault)
+        .build();
+  }
+}
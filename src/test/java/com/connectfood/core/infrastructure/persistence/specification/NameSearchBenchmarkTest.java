@@ -0,0 +1,105 @@
+package com.connectfood.core.infrastructure.persistence.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.connectfood.core.TestcontainersConfiguration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// ./mvnw test -Dtest=NameSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.users=1200000]
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NameSearchBenchmarkTest {
+
+  private static final int USERS = Integer.getInteger("benchmark.users", 1_200_000);
+  private static final int RUNS = 9;
+  private static final List<String> TERMS = List.of("silva", "a3f9", "zzzz", "ribeiro a");
+
+  private static final String SEED = """
+      insert into core.users (full_name, email, login, password, roles)
+      select f.name || ' ' || l.name || ' ' || substr(md5(i::text), 1, 6),
+        'bench' || i || '@bench.local', 'bench' || i, 'x', '["CUSTOMER"]'::jsonb
+      from generate_series(1, ?) i,
+        lateral (select (array['Ana','João','Maria','José','Francisca','Antônio','Adriana','Carlos',
+          'Juliana','Paulo','Márcia','Pedro','Fernanda','Lucas','Patrícia','Rafael'])[1 + i % 16] as name) f,
+        lateral (select (array['Silva','Santos','Oliveira','Souza','Rodrigues','Ferreira','Alves','Pereira',
+          'Lima','Gomes','Costa','Ribeiro','Martins','Carvalho','Almeida','Lopes','Soares'])[1 + (i / 16) % 17]
+          as name) l
+      """;
+
+  private static final String PAGE = """
+      select id from core.users where lower(full_name) like ? escape '\\'
+      order by full_name, id limit 20
+      """;
+
+  private static final String COUNT = "select count(*) from core.users where lower(full_name) like ? escape '\\'";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void trigramIndexServesNameFilters() {
+    jdbcTemplate.update(SEED, USERS);
+    jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_custom_plan");
+
+    jdbcTemplate.execute("DROP INDEX core.idx_users_full_name_trgm");
+    jdbcTemplate.execute("ANALYZE core.users");
+    final var before = measure();
+
+    final var start = System.nanoTime();
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_users_full_name_trgm ON core.users USING GIN (lower(full_name) gin_trgm_ops)");
+    final var buildMillis = (System.nanoTime() - start) / 1_000_000;
+    jdbcTemplate.execute("ANALYZE core.users");
+    final var after = measure();
+
+    System.out.printf("%d users, median of %d runs, index built in %d ms%n", USERS, RUNS, buildMillis);
+    System.out.printf("%-10s  %-5s  %10s  %10s%n", "term", "query", "before", "after");
+    for (String term : TERMS) {
+      System.out.printf("%-10s  page   %7.1f ms  %7.1f ms%n", term, before.get(term)[0], after.get(term)[0]);
+      System.out.printf("%-10s  count  %7.1f ms  %7.1f ms%n", term, before.get(term)[1], after.get(term)[1]);
+    }
+
+    final var plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + COUNT, String.class,
+        UserSpecification.namePattern("zzzz")));
+    assertThat(plan).contains("idx_users_full_name_trgm");
+  }
+
+  private Map<String, double[]> measure() {
+    final var results = new LinkedHashMap<String, double[]>();
+    for (String term : TERMS) {
+      final var pattern = UserSpecification.namePattern(term);
+      results.put(term, new double[] {
+          median(() -> jdbcTemplate.queryForList(PAGE, Long.class, pattern)),
+          median(() -> jdbcTemplate.queryForObject(COUNT, Long.class, pattern))
+      });
+    }
+    return results;
+  }
+
+  private static double median(Runnable query) {
+    final var millis = new double[RUNS];
+    for (int i = 0; i < RUNS; i++) {
+      final var start = System.nanoTime();
+      query.run();
+      millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+    }
+    Arrays.sort(millis);
+    return millis[RUNS / 2];
+  }
+}
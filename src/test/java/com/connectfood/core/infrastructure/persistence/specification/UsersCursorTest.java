@@ -0,0 +1,43 @@
+package com.connectfood.core.infrastructure.persistence.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.domain.exception.BadRequestException;
+import com.connectfood.core.domain.model.UsersView;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class UsersCursorTest {
+
+  @Test
+  void roundTripsTheLastUserOfAPage() {
+    final var user = new UsersView(42L, UUID.randomUUID(), "João: da Silva", "joao@example.com", "joao",
+        List.of("CUSTOMER"), LocalDateTime.now(), LocalDateTime.now(), 1L);
+
+    final var cursor = UsersCursor.decode(UsersCursor.of(user)
+        .encode());
+
+    assertThat(cursor).isEqualTo(new UsersCursor("João: da Silva", 42L));
+  }
+
+  @Test
+  void encodesAsUrlSafeBase64WithoutPadding() {
+    final var encoded = new UsersCursor("Ana?>", 7L).encode();
+
+    assertThat(encoded).doesNotContain("+", "/", "=");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "not base64!", "bm8tc2VwYXJhdG9y", "YWJjOkFuYQ"})
+  void rejectsMalformedCursorsAsBadRequest(String cursor) {
+    assertThatThrownBy(() -> UsersCursor.decode(cursor)).isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid cursor");
+  }
+}
@@ -0,0 +1,41 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+  private final String hmacToken = service(new JwtKeyRing(SECRET, "HS256", "", "", null))
+      .generate("ana", Map.of());
+
+  @Test
+  void rejectsHmacTokensOnceAsymmetricSigningIsActive() {
+    final var service = service(new JwtKeyRing(SECRET, "ES256", "", "", null));
+
+    assertThat(service.verify(hmacToken)).isEmpty();
+    assertThat(service.verify(service.generate("ana", Map.of()))).isPresent();
+  }
+
+  @Test
+  void acceptsHmacTokensDuringAnExplicitMigrationWindow() {
+    final var service = service(new JwtKeyRing(SECRET, "ES256", "", "", true));
+
+    assertThat(service.verify(hmacToken)).isPresent();
+  }
+
+  @Test
+  void refusesHmacSigningWithHmacVerificationDisabled() {
+    assertThatThrownBy(() -> new JwtKeyRing(SECRET, "HS256", "", "", false))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static JwtService service(JwtKeyRing keyRing) {
+    return new JwtService(keyRing, 3600, 100);
+  }
+}
@@ -0,0 +1,140 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.connectfood.core.domain.factory.ProblemDetailsFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+
+class LoginRateLimitFilterTest {
+
+  private final LoginRateLimitFilter filter = new LoginRateLimitFilter(new ProblemDetailsFactory(),
+      new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), true, 4, 100, 600, 64, 10, 10, 1, 1);
+
+  @Test
+  void passesTheBodyOnToTheController() throws Exception {
+    final var chain = new MockFilterChain();
+
+    final var response = login("10.0.0.1", "{\"login\":\"ana\",\"password\":\"secret\"}", chain);
+
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    assertThat(chain.getRequest()
+        .getInputStream()
+        .readAllBytes()).asString(StandardCharsets.UTF_8)
+        .isEqualTo("{\"login\":\"ana\",\"password\":\"secret\"}");
+  }
+
+  @Test
+  void notifiesReadListenersOfTheCachedBody() throws Exception {
+    final var chain = new MockFilterChain();
+    login("10.0.0.1", "{"login":"ana","password":"secret"}", chain);
+    final var input = chain.getRequest()
+        .getInputStream();
+    final var body = new ByteArrayOutputStream();
+    final var done = new AtomicBoolean();
+
+    input.setReadListener(new ReadListener() {
+      @Override
+      public void onDataAvailable() throws IOException {
+        while (input.isReady() && !input.isFinished()) {
+          body.write(input.read());
+        }
+      }
+
+      @Override
+      public void onAllDataRead() {
+        done.set(true);
+      }
+
+      @Override
+      public void onError(Throwable t) {
+      }
+    });
+
+    assertThat(done).isTrue();
+    assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{"login":"ana","password":"secret"}");
+  }
+
+  @Test
+  void rejectsRepeatedLoginsWithRetryAfter() throws Exception {
+    login("10.0.0.1", "{\"login\":\"ana\",\"password\":\"a\"}", new MockFilterChain());
+    final var chain = new MockFilterChain();
+
+    final var response = login("10.0.0.2", "{\"login\":\" ANA \",\"password\":\"b\"}", chain);
+
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    assertThat(chain.getRequest()).isNull();
+  }
+
+  @Test
+  void rejectsOversizedBodies() throws Exception {
+    final var chain = new MockFilterChain();
+
+    final var response = login("10.0.0.1", "{\"login\":\"ana\",\"password\":\"" + "x".repeat(100) + "\"}", chain);
+
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+    assertThat(chain.getRequest()).isNull();
+  }
+
+  @Test
+  void rejectsOversizedBodiesWithoutContentLength() throws Exception {
+    final var request = new MockHttpServletRequest("POST", "/v1/auth/login") {
+      @Override
+      public long getContentLengthLong() {
+        return -1;
+      }
+    };
+    request.setContent(("{\"login\":\"ana\",\"password\":\"" + "x".repeat(100) + "\"}")
+        .getBytes(StandardCharsets.UTF_8));
+    final var response = new MockHttpServletResponse();
+    final var chain = new MockFilterChain();
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+    assertThat(chain.getRequest()).isNull();
+  }
+
+  @Test
+  void ignoresOtherEndpoints() throws Exception {
+    final var request = request("10.0.0.1", "x".repeat(100));
+    request.setRequestURI("/v1/users");
+    final var response = new MockHttpServletResponse();
+    final var chain = new MockFilterChain();
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(chain.getRequest()).isSameAs(request);
+  }
+
+  private MockHttpServletResponse login(String ip, String body, MockFilterChain chain) throws Exception {
+    final var response = new MockHttpServletResponse();
+    filter.doFilter(request(ip, body), response, chain);
+    return response;
+  }
+
+  private static MockHttpServletRequest request(String ip, String body) {
+    final var request = new MockHttpServletRequest("POST", "/v1/auth/login");
+    request.setRemoteAddr(ip);
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+}
@@ -0,0 +1,96 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRefreshTokenRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class RefreshTokenServiceTest {
+
+  private static final UUID USER_UUID = UUID.randomUUID();
+
+  private final JpaRefreshTokenRepository repository = mock(JpaRefreshTokenRepository.class);
+  private final RefreshTokenService service = new RefreshTokenService(repository, 3600);
+
+  private String token;
+  private RefreshTokenEntity stored;
+
+  @BeforeEach
+  void setUp() {
+    token = service.issue(USER_UUID.toString(), 3L);
+
+    final var saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+    verify(repository).save(saved.capture());
+    stored = saved.getValue();
+    stored.setId(1L);
+    when(repository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+  }
+
+  @Test
+  void storesOnlyTheTokenHash() {
+    assertThat(stored.getTokenHash()).isNotEqualTo(token)
+        .hasSize(64);
+    assertThat(stored.getUserUuid()).isEqualTo(USER_UUID);
+    assertThat(stored.getTokenVersion()).isEqualTo(3L);
+  }
+
+  @Test
+  void consumesATokenOnce() {
+    when(repository.revokeIfActive(eq(1L), any())).thenReturn(1);
+
+    final var grant = service.consume(token);
+
+    assertThat(grant).contains(new RefreshTokenService.Grant(USER_UUID.toString(), 3L));
+    verify(repository, never()).revokeAllByUserUuid(any(), any());
+  }
+
+  @Test
+  void replayingAConsumedTokenRevokesTheWholeFamily() {
+    when(repository.revokeIfActive(eq(1L), any())).thenReturn(1);
+    service.consume(token);
+    stored.setRevokedAt(Instant.now());
+
+    final var replay = service.consume(token);
+
+    assertThat(replay).isEmpty();
+    verify(repository).revokeAllByUserUuid(eq(USER_UUID), any());
+  }
+
+  @Test
+  void losingAConcurrentConsumeRevokesTheWholeFamily() {
+    when(repository.revokeIfActive(anyLong(), any())).thenReturn(0);
+
+    final var grant = service.consume(token);
+
+    assertThat(grant).isEmpty();
+    verify(repository).revokeAllByUserUuid(eq(USER_UUID), any());
+  }
+
+  @Test
+  void rejectsUnknownAndExpiredTokens() {
+    when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+    assertThat(service.consume("unknown")).isEmpty();
+
+    when(repository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+    stored.setExpiresAt(Instant.now()
+        .minusSeconds(1));
+    assertThat(service.consume(token)).isEmpty();
+    verify(repository, never()).revokeAllByUserUuid(any(), any());
+  }
+}
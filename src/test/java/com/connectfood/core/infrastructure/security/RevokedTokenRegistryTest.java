@@ -0,0 +1,99 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRevokedTokenRepository;
+import com.connectfood.core.infrastructure.persistence.jpa.JpaRevokedTokenRepository.RevokedTokenChange;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RevokedTokenRegistryTest {
+
+  private final JpaRevokedTokenRepository repository = mock(JpaRevokedTokenRepository.class);
+  private RevokedTokenRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    final var nothingNew = change("1", null, null);
+    when(repository.findRevokedSince(anyString(), any())).thenReturn(List.of(nothingNew));
+    registry = new RevokedTokenRegistry(repository, new SimpleMeterRegistry(), 100, 0.01);
+  }
+
+  @Test
+  void revokedTokensAreAlwaysReported() {
+    final var expiresAt = Instant.now()
+        .plusSeconds(600);
+    final var revoked = new ArrayList<String>();
+    for (int i = 0; i < 1_000; i++) {
+      final var jti = UUID.randomUUID()
+          .toString();
+      registry.revoke(jti, expiresAt);
+      revoked.add(jti);
+    }
+
+    assertThat(revoked).allMatch(registry::isRevoked);
+    assertThat(registry.isRevoked(UUID.randomUUID()
+        .toString())).isFalse();
+    verify(repository).insertIfAbsent(UUID.fromString(revoked.getFirst()), expiresAt);
+  }
+
+  @Test
+  void ignoresMissingAndMalformedIds() {
+    assertThat(registry.isRevoked(null)).isFalse();
+    assertThat(registry.isRevoked("not-a-uuid")).isFalse();
+  }
+
+  @Test
+  void syncPicksUpRevocationsFromOtherNodes() {
+    final var jti = UUID.randomUUID();
+    final var revokedElsewhere = change("2", jti, Instant.now()
+        .plusSeconds(600));
+    when(repository.findRevokedSince(anyString(), any())).thenReturn(List.of(revokedElsewhere));
+
+    registry.sync();
+
+    assertThat(registry.isRevoked(jti.toString())).isTrue();
+  }
+
+  @Test
+  void syncForgetsExpiredTokensAndKeepsTheRest() {
+    final var expired = UUID.randomUUID();
+    final var active = new ArrayList<UUID>();
+    final var changes = new ArrayList<RevokedTokenChange>();
+    changes.add(change("2", expired, Instant.now()
+        .minusSeconds(1)));
+    for (int i = 0; i < 500; i++) {
+      final var jti = UUID.randomUUID();
+      active.add(jti);
+      changes.add(change("2", jti, Instant.now()
+          .plusSeconds(600)));
+    }
+    when(repository.findRevokedSince(anyString(), any())).thenReturn(changes);
+
+    registry.sync();
+
+    assertThat(registry.isRevoked(expired.toString())).isFalse();
+    assertThat(active).allMatch(jti -> registry.isRevoked(jti.toString()));
+  }
+
+  private static RevokedTokenChange change(String watermark, UUID jti, Instant expiresAt) {
+    final var change = mock(RevokedTokenChange.class);
+    when(change.getWatermark()).thenReturn(watermark);
+    when(change.getJti()).thenReturn(jti);
+    when(change.getExpiresAt()).thenReturn(expiresAt);
+    return change;
+  }
+}
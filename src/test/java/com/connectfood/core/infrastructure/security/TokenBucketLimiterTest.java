@@ -0,0 +1,65 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  void refillsTokensOverTime() {
+    final var limiter = new TokenBucketLimiter(4, 100, 2, 60, 600, now::get);
+
+    assertThat(limiter.tryAcquire("ana")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isCloseTo(TimeUnit.SECONDS.toNanos(1), within(1_000L));
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(limiter.tryAcquire("ana")).isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), within(1_000L));
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(limiter.tryAcquire("ana")).isZero();
+  }
+
+  @Test
+  void keysHaveSeparateBuckets() {
+    final var limiter = new TokenBucketLimiter(4, 100, 1, 1, 600, now::get);
+
+    assertThat(limiter.tryAcquire("ana")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isPositive();
+    assertThat(limiter.tryAcquire("joao")).isZero();
+  }
+
+  @Test
+  void evictsIdleBuckets() {
+    final var limiter = new TokenBucketLimiter(1, 100, 1, 1, 10, now::get);
+
+    assertThat(limiter.tryAcquire("ana")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isPositive();
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    assertThat(limiter.tryAcquire("ana")).isPositive();
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(11));
+    assertThat(limiter.tryAcquire("ana")).isZero();
+  }
+
+  @Test
+  void capsKeysPerStripe() {
+    final var limiter = new TokenBucketLimiter(1, 2, 1, 1, 600, now::get);
+
+    assertThat(limiter.tryAcquire("ana")).isZero();
+    assertThat(limiter.tryAcquire("joao")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isPositive();
+
+    assertThat(limiter.tryAcquire("maria")).isZero();
+    assertThat(limiter.tryAcquire("ana")).isPositive();
+    assertThat(limiter.tryAcquire("joao")).isZero();
+  }
+}
@@ -0,0 +1,56 @@
+package com.connectfood.core.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidBloomFilterTest {
+
+  private static final int ENTRIES = 10_000;
+
+  private final Random random = new Random(42);
+
+  @Test
+  void hasNoFalseNegatives() {
+    final var filter = new UuidBloomFilter(ENTRIES, 0.01);
+    final var added = new ArrayList<UUID>();
+    for (int i = 0; i < ENTRIES; i++) {
+      final var value = randomUuid();
+      filter.add(value);
+      added.add(value);
+    }
+
+    assertThat(added).allMatch(filter::mightContain);
+  }
+
+  @Test
+  void keepsFalsePositivesNearTheConfiguredRate() {
+    final var filter = new UuidBloomFilter(ENTRIES, 0.01);
+    for (int i = 0; i < ENTRIES; i++) {
+      filter.add(randomUuid());
+    }
+
+    var falsePositives = 0;
+    for (int i = 0; i < ENTRIES; i++) {
+      if (filter.mightContain(randomUuid())) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(ENTRIES * 3 / 100);
+  }
+
+  @Test
+  void startsEmpty() {
+    final var filter = new UuidBloomFilter(ENTRIES, 0.01);
+
+    assertThat(filter.mightContain(randomUuid())).isFalse();
+  }
+
+  private UUID randomUuid() {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+}